@@ -31,6 +31,8 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     PROTOCOL("arangodb.protocol"),
     MAX_CONNECTIONS("arangodb.connections.max"),
     HOST_LIST("arangodb.acquireHostList"),
+    BULK_SIZE("arangodb.bulk.size"),
+    BULK_ON_DUPLICATE("arangodb.bulk.on.duplicate"),
     FILE_CONFIGURATION("diana-arangodb.properties");
 
 
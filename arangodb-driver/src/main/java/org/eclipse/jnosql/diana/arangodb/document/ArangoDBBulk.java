@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.arangodb.document;
+
+/**
+ * The settings to the bulk insert and update of {@link ArangoDBDocumentCollectionManager}
+ */
+final class ArangoDBBulk {
+
+    static final int DEFAULT_SIZE = 1000;
+
+    private final int size;
+
+    private final ArangoDBOnDuplicate onDuplicate;
+
+    ArangoDBBulk(int size, ArangoDBOnDuplicate onDuplicate) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The bulk size must be positive");
+        }
+        this.size = size;
+        this.onDuplicate = onDuplicate;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    ArangoDBOnDuplicate getOnDuplicate() {
+        return onDuplicate;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ArangoDBBulk{");
+        sb.append("size=").append(size);
+        sb.append(", onDuplicate=").append(onDuplicate);
+        sb.append('}');
+        return sb.toString();
+    }
+}
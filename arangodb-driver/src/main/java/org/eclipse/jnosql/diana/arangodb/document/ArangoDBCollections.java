@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.arangodb.document;
+
+
+import com.arangodb.ArangoDB;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the collections of a database that were already checked or created, so a write checks the collection
+ * just the first time. When an operation fails because the collection or the database does not exist anymore,
+ * e.g. it was dropped by another client, the collection leaves the cache and it is checked again.
+ */
+final class ArangoDBCollections {
+
+    private static final int DATABASE_NOT_FOUND = 1228;
+
+    private static final int COLLECTION_NOT_FOUND = 1203;
+
+    private final String database;
+
+    private final ArangoDB arangoDB;
+
+    private final Set<String> collections = ConcurrentHashMap.newKeySet();
+
+    ArangoDBCollections(String database, ArangoDB arangoDB) {
+        this.database = database;
+        this.arangoDB = arangoDB;
+    }
+
+    void check(String collection) {
+        Objects.requireNonNull(collection, "collection is required");
+        if (!collections.contains(collection)) {
+            ArangoDBUtil.checkCollection(database, arangoDB, collection);
+            collections.add(collection);
+        }
+    }
+
+    /**
+     * Runs the operation after the collection is checked, when the collection is not found the check runs again
+     * and the operation is retried once.
+     */
+    <T> T execute(String collection, Supplier<T> operation) {
+        check(collection);
+        try {
+            return operation.get();
+        } catch (com.arangodb.ArangoDBException ex) {
+            if (!isNotFound(ex)) {
+                throw ex;
+            }
+            invalidate(collection);
+            check(collection);
+            return operation.get();
+        }
+    }
+
+    /**
+     * Removes the collection from the cache when the error means it does not exist
+     */
+    void invalidate(String collection, Throwable error) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (cause instanceof com.arangodb.ArangoDBException && isNotFound((com.arangodb.ArangoDBException) cause)) {
+            invalidate(collection);
+        }
+    }
+
+    private void invalidate(String collection) {
+        collections.remove(collection);
+    }
+
+    private static boolean isNotFound(com.arangodb.ArangoDBException ex) {
+        Integer errorNum = ex.getErrorNum();
+        return Objects.nonNull(errorNum) && (errorNum == COLLECTION_NOT_FOUND || errorNum == DATABASE_NOT_FOUND);
+    }
+}
@@ -14,8 +14,10 @@
  */
 package org.eclipse.jnosql.diana.arangodb.document;
 
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
 
 import java.util.Map;
 import java.util.stream.Stream;
@@ -23,6 +25,13 @@ import java.util.stream.Stream;
 /**
  * The ArangoDB implementation of {@link DocumentCollectionManager} it does not support to TTL methods:
  * <p>{@link DocumentCollectionManager#insert(DocumentEntity)}</p>
+ * The insert and update of several entities are grouped by collection and sent in batches, see
+ * {@link ArangoDBDocumentConfiguration#setBulkSize(int)} and
+ * {@link ArangoDBDocumentConfiguration#setOnDuplicate(ArangoDBOnDuplicate)}. Each written entity receives
+ * the _key, _id and _rev of its document, the ones that fail are reported together by an {@link ArangoDBException}
+ * after every batch is sent.
+ * The queries are read from an ArangoDB cursor as the stream is consumed, the cursor options are defined with
+ * {@link ArangoDBDocumentQuery} or {@link AqlQueryOptions}.
  */
 public interface ArangoDBDocumentCollectionManager extends DocumentCollectionManager {
 
@@ -37,6 +46,46 @@ public interface ArangoDBDocumentCollectionManager extends DocumentCollectionMan
      */
     Stream<DocumentEntity> aql(String query, Map<String, Object> values);
 
+    /**
+     * Finds {@link DocumentEntity} from query, when the query is an {@link ArangoDBDocumentQuery} its
+     * {@link AqlQueryOptions} are used to create the cursor. The stream reads the cursor batch by batch,
+     * so it should be closed when it is not fully consumed.
+     *
+     * @param query the query
+     * @return the query result
+     * @throws NullPointerException when query is null
+     */
+    @Override
+    Stream<DocumentEntity> select(DocumentQuery query);
+
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, e.g. batchSize, stream, ttl, cache and
+     * memoryLimit.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query   the query
+     * @param values  the named queries
+     * @param options the cursor options
+     * @return the query result
+     * @throws NullPointerException when there is null parameter
+     */
+    Stream<DocumentEntity> aql(String query, Map<String, Object> values, AqlQueryOptions options);
+
+    /**
+     * Executes ArangoDB query language, AQL, with the cursor options, e.g. batchSize, stream, ttl, cache and
+     * memoryLimit.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query     the query
+     * @param values    named query
+     * @param options   the cursor options
+     * @param typeClass The type of the result
+     * @param <T>       the type
+     * @return the query result
+     * @throws NullPointerException when there is null parameter
+     */
+    <T> Stream<T> aql(String query, Map<String, Object> values, AqlQueryOptions options, Class<T> typeClass);
+
     /**
      * Executes ArangoDB query language, AQL.
      * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
@@ -15,6 +15,7 @@
 package org.eclipse.jnosql.diana.arangodb.document;
 
 
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.ExecuteAsyncQueryException;
 import jakarta.nosql.document.DocumentCollectionManagerAsync;
 import jakarta.nosql.document.DocumentEntity;
@@ -45,5 +46,24 @@ public interface ArangoDBDocumentCollectionManagerAsync extends DocumentCollecti
     void aql(String query, Map<String, Object> values, Consumer<Stream<DocumentEntity>> callBack) throws
             ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException;
 
+    /**
+     * Executes AQL with the cursor options, e.g. batchSize, stream, ttl, cache and memoryLimit,
+     * finds {@link DocumentEntity} from select asynchronously.
+     * A select with an {@link ArangoDBDocumentQuery} uses its options as well.
+     * <p>FOR u IN users FILTER u.status == @status RETURN u </p>
+     *
+     * @param query    the query
+     * @param values   the named queries
+     * @param options  the cursor options
+     * @param callBack the callback, when the process is finished will call this instance returning
+     *                 the result of select within parameters
+     * @throws ExecuteAsyncQueryException    when there is a async error
+     * @throws UnsupportedOperationException when the database does not support this feature
+     * @throws NullPointerException          when there is null parameter
+     */
+    void aql(String query, Map<String, Object> values, AqlQueryOptions options,
+             Consumer<Stream<DocumentEntity>> callBack) throws
+            ExecuteAsyncQueryException, UnsupportedOperationException, NullPointerException;
+
 
 }
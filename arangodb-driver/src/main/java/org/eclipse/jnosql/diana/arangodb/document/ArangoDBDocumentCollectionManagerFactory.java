@@ -28,15 +28,18 @@ final class ArangoDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final ArangoDBAsync arangoDBAsync;
 
-    ArangoDBDocumentCollectionManagerFactory(ArangoDB arangoDB, ArangoDBAsync arangoDBAsync) {
+    private final ArangoDBBulk bulk;
+
+    ArangoDBDocumentCollectionManagerFactory(ArangoDB arangoDB, ArangoDBAsync arangoDBAsync, ArangoDBBulk bulk) {
         this.arangoDB = arangoDB;
         this.arangoDBAsync = arangoDBAsync;
+        this.bulk = bulk;
     }
 
     @Override
     public ArangoDBDocumentCollectionManager get(String database) {
         ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentCollectionManager(database, arangoDB);
+        return new DefaultArangoDBDocumentCollectionManager(database, arangoDB, bulk);
     }
 
     @Override
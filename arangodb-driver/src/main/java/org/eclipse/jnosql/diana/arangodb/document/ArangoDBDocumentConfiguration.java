@@ -42,6 +42,34 @@ import static org.eclipse.jnosql.diana.arangodb.ArangoDBConfigurations.FILE_CONF
 public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
         implements DocumentConfiguration, DocumentConfigurationAsync {
 
+    private int bulkSize = ArangoDBBulk.DEFAULT_SIZE;
+
+    private ArangoDBOnDuplicate onDuplicate = ArangoDBOnDuplicate.ERROR;
+
+    /**
+     * Defines the number of documents sent at each request of a bulk insert or update, the default is 1000
+     *
+     * @param bulkSize the bulk size
+     * @throws IllegalArgumentException when bulkSize is not positive
+     */
+    public void setBulkSize(int bulkSize) {
+        if (bulkSize <= 0) {
+            throw new IllegalArgumentException("The bulk size must be positive");
+        }
+        this.bulkSize = bulkSize;
+    }
+
+    /**
+     * Defines what a bulk insert does to a document that already exists, the default is
+     * {@link ArangoDBOnDuplicate#ERROR}
+     *
+     * @param onDuplicate the policy
+     * @throws NullPointerException when onDuplicate is null
+     */
+    public void setOnDuplicate(ArangoDBOnDuplicate onDuplicate) {
+        this.onDuplicate = requireNonNull(onDuplicate, "onDuplicate is required");
+    }
+
     @Override
     public ArangoDBDocumentCollectionManagerFactory get() throws UnsupportedOperationException {
         Map<String, String> configuration = ConfigurationReader.from(FILE_CONFIGURATION.get());
@@ -54,9 +82,16 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
     public ArangoDBDocumentCollectionManagerFactory get(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
 
+        int size = settings.get(ArangoDBConfigurations.BULK_SIZE.get())
+                .map(Object::toString).map(Integer::valueOf).orElse(bulkSize);
+        ArangoDBOnDuplicate policy = settings.get(ArangoDBConfigurations.BULK_ON_DUPLICATE.get())
+                .map(Object::toString).map(String::toUpperCase).map(ArangoDBOnDuplicate::valueOf).orElse(onDuplicate);
+        ArangoDBBulk bulk = new ArangoDBBulk(size, policy);
+
+        ArangoDBVPack.register(builder, builderAsync);
         ArangoDB arangoDB = getArangoDB(settings);
         ArangoDBAsync arangoDBAsync = getArangoDBAsync(settings);
-        return new ArangoDBDocumentCollectionManagerFactory(arangoDB, arangoDBAsync);
+        return new ArangoDBDocumentCollectionManagerFactory(arangoDB, arangoDBAsync, bulk);
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.arangodb.document;
+
+import com.arangodb.model.AqlQueryOptions;
+import jakarta.nosql.Sort;
+import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An ArangoDB specialization of {@link DocumentQuery} that carries the {@link AqlQueryOptions} of the cursor,
+ * e.g. batchSize, stream, ttl, cache and memoryLimit.
+ * <p>{@code manager.select(ArangoDBDocumentQuery.of(query, new AqlQueryOptions().batchSize(500).ttl(60)))}</p>
+ *
+ * @see ArangoDBDocumentQuery#of(DocumentQuery, AqlQueryOptions)
+ */
+public final class ArangoDBDocumentQuery implements DocumentQuery {
+
+    private final DocumentQuery query;
+
+    private final AqlQueryOptions options;
+
+    private ArangoDBDocumentQuery(DocumentQuery query, AqlQueryOptions options) {
+        this.query = query;
+        this.options = options;
+    }
+
+    /**
+     * The options sent to ArangoDB when the cursor is created
+     *
+     * @return the options
+     */
+    public AqlQueryOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    public long getLimit() {
+        return query.getLimit();
+    }
+
+    @Override
+    public long getSkip() {
+        return query.getSkip();
+    }
+
+    @Override
+    public String getDocumentCollection() {
+        return query.getDocumentCollection();
+    }
+
+    @Override
+    public Optional<DocumentCondition> getCondition() {
+        return query.getCondition();
+    }
+
+    @Override
+    public List<Sort> getSorts() {
+        return query.getSorts();
+    }
+
+    @Override
+    public List<String> getDocuments() {
+        return query.getDocuments();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ArangoDBDocumentQuery that = (ArangoDBDocumentQuery) o;
+        return Objects.equals(query, that.query) &&
+                Objects.equals(options, that.options);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(query, options);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ArangoDBDocumentQuery{");
+        sb.append("query=").append(query);
+        sb.append(", options=").append(options);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * returns a new instance of {@link ArangoDBDocumentQuery}
+     *
+     * @param query   the {@link DocumentQuery}
+     * @param options the cursor options
+     * @return a new instance
+     * @throws NullPointerException when there is null parameter
+     */
+    public static ArangoDBDocumentQuery of(DocumentQuery query, AqlQueryOptions options) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(options, "options is required");
+        return new ArangoDBDocumentQuery(query, options);
+    }
+}
@@ -22,4 +22,8 @@ public class ArangoDBException extends RuntimeException {
     public ArangoDBException(String message) {
         super(message);
     }
+
+    public ArangoDBException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
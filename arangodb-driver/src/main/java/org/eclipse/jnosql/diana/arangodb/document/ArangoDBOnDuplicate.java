@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.arangodb.document;
+
+/**
+ * Defines what a bulk insert does when a document has the same key, or the same value at a unique index,
+ * of a document that already exists in the collection.
+ *
+ * @see ArangoDBDocumentConfiguration#setOnDuplicate(ArangoDBOnDuplicate)
+ */
+public enum ArangoDBOnDuplicate {
+
+    /**
+     * The document is not inserted and the bulk insert throws {@link ArangoDBException} after the batch
+     */
+    ERROR,
+    /**
+     * The existing document is updated, the attributes that the new one does not have are kept
+     */
+    UPDATE,
+    /**
+     * The existing document is replaced by the new one
+     */
+    REPLACE,
+    /**
+     * The document is skipped, the existing one does not change
+     */
+    IGNORE
+}
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.arangodb.document;
+
+
+import com.arangodb.ArangoDB;
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackDeserializationContext;
+import com.arangodb.velocypack.VPackDeserializer;
+import com.arangodb.velocypack.VPackSerializationContext;
+import com.arangodb.velocypack.VPackSerializer;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import jakarta.nosql.Value;
+import jakarta.nosql.ValueWriter;
+import jakarta.nosql.document.Document;
+import jakarta.nosql.document.DocumentEntity;
+import org.eclipse.jnosql.diana.writer.ValueWriterDecorator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.ID;
+import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.KEY;
+import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.REV;
+
+/**
+ * Reads and writes {@link DocumentEntity} straight from and to VelocyPack, so no intermediate map or
+ * {@link com.arangodb.entity.BaseDocument} is created. A {@link Document} whose value is a document or a list of
+ * documents is written as an object, a VelocyPack object is read as a list of documents.
+ * The driver finds a serializer by the exact class of the value, so an entity is written wrapped in
+ * {@link ArangoDBVPack.Entity}. The _key, _id and _rev are always written as text.
+ */
+final class ArangoDBVPack {
+
+    private static final ValueWriter WRITER = ValueWriterDecorator.getInstance();
+
+    private static final List<String> IDENTIFIERS = Arrays.asList(KEY, ID, REV);
+
+    static final VPackSerializer<Entity> SERIALIZER = (builder, attribute, value, context) -> {
+        builder.add(attribute, ValueType.OBJECT);
+        for (Document document : value.entity.getDocuments()) {
+            if (IDENTIFIERS.contains(document.getName())) {
+                builder.add(document.getName(), document.get().toString());
+            } else {
+                write(builder, document.getName(), document.get(), context);
+            }
+        }
+        builder.close();
+    };
+
+    static final VPackDeserializer<DocumentEntity> DESERIALIZER = (parent, vpack, context) -> {
+        List<Document> documents = new ArrayList<>(vpack.getLength());
+        String collection = "";
+        for (Iterator<Map.Entry<String, VPackSlice>> iterator = vpack.objectIterator(); iterator.hasNext(); ) {
+            Map.Entry<String, VPackSlice> entry = iterator.next();
+            if (ID.equals(entry.getKey())) {
+                String id = context.deserialize(entry.getValue(), String.class);
+                collection = id.split("/")[0];
+                documents.add(Document.of(ID, id));
+                continue;
+            }
+            Object value = read(entry.getValue(), context);
+            if (Objects.nonNull(value)) {
+                documents.add(Document.of(entry.getKey(), value));
+            }
+        }
+        return DocumentEntity.of(collection, documents);
+    };
+
+    private ArangoDBVPack() {
+    }
+
+    static void register(ArangoDB.Builder builder, ArangoDBAsync.Builder builderAsync) {
+        builder.registerSerializer(Entity.class, SERIALIZER);
+        builder.registerDeserializer(DocumentEntity.class, DESERIALIZER);
+        builderAsync.registerSerializer(Entity.class, SERIALIZER);
+        builderAsync.registerDeserializer(DocumentEntity.class, DESERIALIZER);
+    }
+
+    static Entity wrap(DocumentEntity entity) {
+        return new Entity(entity);
+    }
+
+    private static void write(VPackBuilder builder, String name, Object value, VPackSerializationContext context) {
+        Object object = value instanceof Value ? Value.class.cast(value).get() : value;
+        if (Objects.isNull(object)) {
+            builder.add(name, ValueType.NULL);
+        } else if (object instanceof Document) {
+            Document document = Document.class.cast(object);
+            builder.add(name, ValueType.OBJECT);
+            write(builder, document.getName(), document.get(), context);
+            builder.close();
+        } else if (object instanceof Iterable) {
+            Iterable<?> iterable = Iterable.class.cast(object);
+            boolean subDocument = isSubDocument(iterable);
+            builder.add(name, subDocument ? ValueType.OBJECT : ValueType.ARRAY);
+            for (Object element : iterable) {
+                if (subDocument) {
+                    Document document = Document.class.cast(element);
+                    write(builder, document.getName(), document.get(), context);
+                } else {
+                    write(builder, null, element, context);
+                }
+            }
+            builder.close();
+        } else if (object instanceof Map) {
+            builder.add(name, ValueType.OBJECT);
+            for (Map.Entry<?, ?> entry : Map.class.cast(object).entrySet()) {
+                write(builder, entry.getKey().toString(), entry.getValue(), context);
+            }
+            builder.close();
+        } else if (WRITER.isCompatible(object.getClass())) {
+            context.serialize(builder, name, WRITER.write(object));
+        } else {
+            context.serialize(builder, name, object);
+        }
+    }
+
+    private static boolean isSubDocument(Iterable<?> iterable) {
+        Iterator<?> iterator = iterable.iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        while (iterator.hasNext()) {
+            if (!(iterator.next() instanceof Document)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object read(VPackSlice slice, VPackDeserializationContext context) {
+        if (slice.isNull() || slice.isNone()) {
+            return null;
+        }
+        if (slice.isString()) {
+            return slice.getAsString();
+        }
+        if (slice.isBoolean()) {
+            return slice.getAsBoolean();
+        }
+        if (slice.isInteger()) {
+            return slice.getAsLong();
+        }
+        if (slice.isDouble()) {
+            return slice.getAsDouble();
+        }
+        if (slice.isObject()) {
+            List<Document> documents = new ArrayList<>(slice.getLength());
+            for (Iterator<Map.Entry<String, VPackSlice>> iterator = slice.objectIterator(); iterator.hasNext(); ) {
+                Map.Entry<String, VPackSlice> entry = iterator.next();
+                Object value = read(entry.getValue(), context);
+                if (Objects.nonNull(value)) {
+                    documents.add(Document.of(entry.getKey(), value));
+                }
+            }
+            return documents;
+        }
+        if (slice.isArray()) {
+            List<Object> values = new ArrayList<>(slice.getLength());
+            for (Iterator<VPackSlice> iterator = slice.arrayIterator(); iterator.hasNext(); ) {
+                values.add(read(iterator.next(), context));
+            }
+            return values;
+        }
+        return context.deserialize(slice, Object.class);
+    }
+
+    /**
+     * The {@link DocumentEntity} to be written as VelocyPack
+     */
+    static final class Entity {
+
+        private final DocumentEntity entity;
+
+        private Entity(DocumentEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
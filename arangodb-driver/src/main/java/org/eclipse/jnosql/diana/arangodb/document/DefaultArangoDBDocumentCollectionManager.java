@@ -19,6 +19,9 @@ import com.arangodb.ArangoDB;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.ValueWriter;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
@@ -27,7 +30,12 @@ import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
 import org.eclipse.jnosql.diana.writer.ValueWriterDecorator;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -37,7 +45,7 @@ import java.util.stream.StreamSupport;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
-import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.getBaseDocument;
+import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBVPack.wrap;
 
 class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollectionManager {
 
@@ -46,23 +54,30 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public static final String ID = "_id";
     public static final String REV = "_rev";
 
+    private static final int UNIQUE_CONSTRAINT_VIOLATED = 1210;
+
     private final String database;
 
     private final ArangoDB arangoDB;
 
     private final ValueWriter writerField = ValueWriterDecorator.getInstance();
 
-    DefaultArangoDBDocumentCollectionManager(String database, ArangoDB arangoDB) {
+    private final ArangoDBCollections collections;
+
+    private final ArangoDBBulk bulk;
+
+    DefaultArangoDBDocumentCollectionManager(String database, ArangoDB arangoDB, ArangoDBBulk bulk) {
         this.database = database;
         this.arangoDB = arangoDB;
+        this.collections = new ArangoDBCollections(database, arangoDB);
+        this.bulk = bulk;
     }
 
     @Override
     public DocumentEntity insert(DocumentEntity entity) throws NullPointerException {
         String collectionName = entity.getName();
-        checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentCreateEntity<BaseDocument> arandoDocument = arangoDB.db(database).collection(collectionName).insertDocument(baseDocument);
+        DocumentCreateEntity<ArangoDBVPack.Entity> arandoDocument = collections.execute(collectionName, () ->
+                arangoDB.db(database).collection(collectionName).insertDocument(wrap(entity)));
         updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
         return entity;
     }
@@ -70,10 +85,8 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     @Override
     public DocumentEntity update(DocumentEntity entity) {
         String collectionName = entity.getName();
-        checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        DocumentUpdateEntity<BaseDocument> arandoDocument = arangoDB.db(database)
-                .collection(collectionName).updateDocument(baseDocument.getKey(), baseDocument);
+        DocumentUpdateEntity<ArangoDBVPack.Entity> arandoDocument = collections.execute(collectionName, () ->
+                arangoDB.db(database).collection(collectionName).updateDocument(getKey(entity), wrap(entity)));
         updateEntity(entity, arandoDocument.getKey(), arandoDocument.getId(), arandoDocument.getRev());
         return entity;
     }
@@ -81,9 +94,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        return bulk(entities, this::updateBatch);
     }
 
     @Override
@@ -103,11 +114,12 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
         requireNonNull(query, "query is required");
 
         AQLQueryResult result = QueryAQLConverter.select(query);
-        ArangoCursor<BaseDocument> documents = arangoDB.db(database).query(result.getQuery(),
-                result.getValues(), null, BaseDocument.class);
+        AqlQueryOptions options = query instanceof ArangoDBDocumentQuery ?
+                ArangoDBDocumentQuery.class.cast(query).getOptions() : null;
+        ArangoCursor<DocumentEntity> documents = arangoDB.db(database).query(result.getQuery(),
+                result.getValues(), options, DocumentEntity.class);
 
-        return StreamSupport.stream(documents.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return stream(documents);
     }
 
     @Override
@@ -123,19 +135,33 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     public Stream<DocumentEntity> aql(String query, Map<String, Object> values) throws NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
-        ArangoCursor<BaseDocument> result = arangoDB.db(database).query(query, values, null, BaseDocument.class);
-        return StreamSupport.stream(result.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        ArangoCursor<DocumentEntity> result = arangoDB.db(database).query(query, values, null, DocumentEntity.class);
+        return stream(result);
 
     }
 
+    @Override
+    public Stream<DocumentEntity> aql(String query, Map<String, Object> values, AqlQueryOptions options) {
+        return aql(query, values, options, DocumentEntity.class);
+    }
+
+    @Override
+    public <T> Stream<T> aql(String query, Map<String, Object> values, AqlQueryOptions options, Class<T> typeClass) {
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(typeClass, "typeClass is required");
+        ArangoCursor<T> result = arangoDB.db(database).query(query, values, options, typeClass);
+        return stream(result);
+    }
+
     @Override
     public <T> Stream<T> aql(String query, Map<String, Object> values, Class<T> typeClass) {
         requireNonNull(query, "query is required");
         requireNonNull(values, "values is required");
         requireNonNull(typeClass, "typeClass is required");
         ArangoCursor<T> result = arangoDB.db(database).query(query, values, null, typeClass);
-        return StreamSupport.stream(result.spliterator(), false);
+        return stream(result);
     }
 
     @Override
@@ -143,7 +169,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
         requireNonNull(query, "query is required");
         requireNonNull(typeClass, "typeClass is required");
         ArangoCursor<T> result = arangoDB.db(database).query(query, emptyMap(), null, typeClass);
-        return StreamSupport.stream(result.spliterator(), false);
+        return stream(result);
     }
 
 
@@ -153,8 +179,14 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     }
 
 
-    private void checkCollection(String collectionName) {
-        ArangoDBUtil.checkCollection(database, arangoDB, collectionName);
+    private <T> Stream<T> stream(ArangoCursor<T> cursor) {
+        return StreamSupport.stream(cursor.spliterator(), false).onClose(() -> {
+            try {
+                cursor.close();
+            } catch (IOException e) {
+                throw new ArangoDBException("An error when try to close the cursor", e);
+            }
+        });
     }
 
     private boolean checkCondition(Optional<DocumentCondition> query) {
@@ -170,9 +202,7 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        return bulk(entities, this::insertBatch);
     }
 
     @Override
@@ -184,6 +214,91 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
                 .collect(Collectors.toList());
     }
 
+    private List<DocumentEntity> bulk(Iterable<DocumentEntity> entities, BulkOperation operation) {
+        List<DocumentEntity> result = new ArrayList<>();
+        Map<String, List<DocumentEntity>> collectionEntities = new LinkedHashMap<>();
+        for (DocumentEntity entity : entities) {
+            Objects.requireNonNull(entity, "entity is required");
+            collectionEntities.computeIfAbsent(entity.getName(), k -> new ArrayList<>()).add(entity);
+            result.add(entity);
+        }
+        List<String> errors = new ArrayList<>();
+        collectionEntities.forEach((collection, values) -> {
+            for (int index = 0; index < values.size(); index += bulk.getSize()) {
+                List<DocumentEntity> batch = values.subList(index, Math.min(index + bulk.getSize(), values.size()));
+                operation.execute(collection, batch, errors);
+            }
+        });
+        if (!errors.isEmpty()) {
+            throw new ArangoDBException("There are documents that were not written: " + errors);
+        }
+        return result;
+    }
+
+    private void insertBatch(String collection, List<DocumentEntity> entities, List<String> errors) {
+        List<ArangoDBVPack.Entity> documents = entities.stream().map(ArangoDBVPack::wrap).collect(Collectors.toList());
+        MultiDocumentEntity<DocumentCreateEntity<ArangoDBVPack.Entity>> result = collections.execute(collection, () ->
+                arangoDB.db(database).collection(collection).insertDocuments(documents));
+
+        List<DocumentEntity> duplicates = new ArrayList<>();
+        List<ArangoDBVPack.Entity> duplicateDocuments = new ArrayList<>();
+        Iterator<Object> responses = result.getDocumentsAndErrors().iterator();
+        for (int index = 0; index < entities.size() && responses.hasNext(); index++) {
+            Object response = responses.next();
+            if (!(response instanceof ErrorEntity)) {
+                updateEntity(entities.get(index), response);
+                continue;
+            }
+            ErrorEntity error = (ErrorEntity) response;
+            if (!isDuplicate(error, entities.get(index))) {
+                errors.add(error.getErrorMessage());
+            } else if (!ArangoDBOnDuplicate.IGNORE.equals(bulk.getOnDuplicate())) {
+                duplicates.add(entities.get(index));
+                duplicateDocuments.add(documents.get(index));
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            MultiDocumentEntity<?> updated = ArangoDBOnDuplicate.REPLACE.equals(bulk.getOnDuplicate()) ?
+                    arangoDB.db(database).collection(collection).replaceDocuments(duplicateDocuments) :
+                    arangoDB.db(database).collection(collection).updateDocuments(duplicateDocuments);
+            updateEntities(duplicates, updated, errors);
+        }
+    }
+
+    private void updateBatch(String collection, List<DocumentEntity> entities, List<String> errors) {
+        List<ArangoDBVPack.Entity> documents = entities.stream().map(ArangoDBVPack::wrap).collect(Collectors.toList());
+        MultiDocumentEntity<DocumentUpdateEntity<ArangoDBVPack.Entity>> result = collections.execute(collection, () ->
+                arangoDB.db(database).collection(collection).updateDocuments(documents));
+        updateEntities(entities, result, errors);
+    }
+
+    private void updateEntities(List<DocumentEntity> entities, MultiDocumentEntity<?> result, List<String> errors) {
+        Iterator<Object> responses = result.getDocumentsAndErrors().iterator();
+        for (int index = 0; index < entities.size() && responses.hasNext(); index++) {
+            Object response = responses.next();
+            if (response instanceof ErrorEntity) {
+                errors.add(((ErrorEntity) response).getErrorMessage());
+            } else {
+                updateEntity(entities.get(index), response);
+            }
+        }
+    }
+
+    private boolean isDuplicate(ErrorEntity error, DocumentEntity entity) {
+        return !ArangoDBOnDuplicate.ERROR.equals(bulk.getOnDuplicate())
+                && error.getErrorNum() == UNIQUE_CONSTRAINT_VIOLATED
+                && Objects.nonNull(getKey(entity));
+    }
+
+    private static String getKey(DocumentEntity entity) {
+        return entity.find(KEY).map(Object::toString).orElse(null);
+    }
+
+    private void updateEntity(DocumentEntity entity, Object response) {
+        com.arangodb.entity.DocumentEntity document = (com.arangodb.entity.DocumentEntity) response;
+        updateEntity(entity, document.getKey(), document.getId(), document.getRev());
+    }
+
     private void updateEntity(DocumentEntity entity, String key, String id, String rev) {
         entity.add(Document.of(KEY, key));
         entity.add(Document.of(ID, id));
@@ -194,4 +309,8 @@ class DefaultArangoDBDocumentCollectionManager implements ArangoDBDocumentCollec
         return arangoDB;
     }
 
+    private interface BulkOperation {
+        void execute(String collection, List<DocumentEntity> entities, List<String> errors);
+    }
+
 }
@@ -20,12 +20,14 @@ import com.arangodb.ArangoDBAsync;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentCreateEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.ExecuteAsyncQueryException;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
@@ -39,7 +41,7 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.ID;
 import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.KEY;
 import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.REV;
-import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBUtil.getBaseDocument;
+import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBVPack.wrap;
 
 public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDocumentCollectionManagerAsync {
 
@@ -52,10 +54,13 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
 
     private final String database;
 
+    private final ArangoDBCollections collections;
+
     DefaultArangoDBDocumentCollectionManagerAsync(String database, ArangoDB arangoDB, ArangoDBAsync arangoDBAsync) {
         this.arangoDB = arangoDB;
         this.arangoDBAsync = arangoDBAsync;
         this.database = database;
+        this.collections = new ArangoDBCollections(database, arangoDB);
     }
 
     @Override
@@ -88,9 +93,9 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
 
         String collectionName = entity.getName();
         checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        CompletableFuture<DocumentCreateEntity<BaseDocument>> future = arangoDBAsync.db(database)
-                .collection(collectionName).insertDocument(baseDocument);
+        CompletableFuture<DocumentCreateEntity<ArangoDBVPack.Entity>> future = arangoDBAsync.db(database)
+                .collection(collectionName).insertDocument(wrap(entity));
+        future.exceptionally(e -> invalidate(collectionName, e));
         future.thenAccept(d -> createConsumer(entity, callBack, d.getKey(), d.getId(), d.getRev()));
     }
 
@@ -119,9 +124,10 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
 
         String collectionName = entity.getName();
         checkCollection(collectionName);
-        BaseDocument baseDocument = getBaseDocument(entity);
-        CompletableFuture<DocumentUpdateEntity<BaseDocument>> future = arangoDBAsync.db(database).collection(collectionName)
-                .updateDocument(baseDocument.getKey(), baseDocument);
+        String key = entity.find(KEY).map(Object::toString).orElse(null);
+        CompletableFuture<DocumentUpdateEntity<ArangoDBVPack.Entity>> future = arangoDBAsync.db(database)
+                .collection(collectionName).updateDocument(key, wrap(entity));
+        future.exceptionally(e -> invalidate(collectionName, e));
         future.thenAccept(d -> createConsumer(entity, callBack, d.getKey(), d.getId(), d.getRev()));
     }
 
@@ -155,7 +161,9 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
         requireNonNull(callBack, "callBack is required");
 
         AQLQueryResult result = QueryAQLConverter.select(query);
-        runAql(result.getQuery(), result.getValues(), callBack);
+        AqlQueryOptions options = query instanceof ArangoDBDocumentQuery ?
+                ArangoDBDocumentQuery.class.cast(query).getOptions() : null;
+        runAql(result.getQuery(), result.getValues(), options, callBack);
 
     }
 
@@ -182,20 +190,42 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
         requireNonNull(callBack, "callBack is required");
         requireNonNull(values, "values is required");
 
-        runAql(query, values, callBack);
+        runAql(query, values, null, callBack);
 
     }
 
-    private void runAql(String query, Map<String, Object> values, Consumer<Stream<DocumentEntity>> callBack) {
-        CompletableFuture<ArangoCursorAsync<BaseDocument>> future = arangoDBAsync.db(database).query(query,
-                values, null, BaseDocument.class);
+    @Override
+    public void aql(String query, Map<String, Object> values, AqlQueryOptions options,
+                    Consumer<Stream<DocumentEntity>> callBack) {
+
+        requireNonNull(query, "query is required");
+        requireNonNull(values, "values is required");
+        requireNonNull(options, "options is required");
+        requireNonNull(callBack, "callBack is required");
+
+        runAql(query, values, options, callBack);
+    }
+
+    private void runAql(String query, Map<String, Object> values, AqlQueryOptions options,
+                        Consumer<Stream<DocumentEntity>> callBack) {
+        CompletableFuture<ArangoCursorAsync<DocumentEntity>> future = arangoDBAsync.db(database).query(query,
+                values, options, DocumentEntity.class);
 
         future.thenAccept(b -> {
-            Stream<DocumentEntity> entities = StreamSupport.stream(b.spliterator(), false).map(ArangoDBUtil::toEntity);
+            Stream<DocumentEntity> entities = StreamSupport.stream(b.spliterator(), false)
+                    .onClose(() -> close(b));
             callBack.accept(entities);
         });
     }
 
+    private void close(ArangoCursorAsync<DocumentEntity> cursor) {
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw new ArangoDBException("An error when try to close the cursor", e);
+        }
+    }
+
 
     @Override
     public void close() {
@@ -203,7 +233,12 @@ public class DefaultArangoDBDocumentCollectionManagerAsync implements ArangoDBDo
     }
 
     private void checkCollection(String collectionName) {
-        ArangoDBUtil.checkCollection(database, arangoDB, collectionName);
+        collections.check(collectionName);
+    }
+
+    private <T> T invalidate(String collectionName, Throwable error) {
+        collections.invalidate(collectionName, error);
+        return null;
     }
 
     private void createConsumer(DocumentEntity entity, Consumer<DocumentEntity> callBack, String key, String id, String rev) {
@@ -25,6 +25,13 @@ import org.eclipse.jnosql.diana.driver.ValueJSON;
 
 import javax.json.bind.Jsonb;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -34,7 +41,9 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
 /**
- * The ArangoDB implementation to {@link BucketManager} it does not support TTL methods:
+ * The ArangoDB implementation to {@link BucketManager}. The put runs as an AQL UPSERT, so a new value replaces the
+ * old one at the same round trip and atomically, and a put of several entities is sent as a single query.
+ * It does not support TTL methods:
  * <p>{@link BucketManager#put(Iterable, Duration)}</p>
  * <p>{@link BucketManager#put(Iterable, Duration)}</p>
  */
@@ -42,6 +51,8 @@ public class ArangoDBBucketManager implements BucketManager {
 
 
     private static final String VALUE = "_value";
+    private static final String KEY = "_key";
+    private static final String UPSERT = "FOR d IN @documents UPSERT { _key: d._key } INSERT d REPLACE d IN @@collection";
     private static final Function<BaseDocument, String> TO_JSON = e -> e.getAttribute(VALUE).toString();
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
 
@@ -61,14 +72,7 @@ public class ArangoDBBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) throws NullPointerException {
         Objects.requireNonNull(key, "Key is required");
         Objects.requireNonNull(value, "value is required");
-        BaseDocument baseDocument = new BaseDocument();
-        baseDocument.setKey(key.toString());
-        baseDocument.addAttribute(VALUE, JSONB.toJson(value));
-        if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
-            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
-        }
-        arangoDB.db(bucketName).collection(namespace)
-                .insertDocument(baseDocument);
+        upsert(Collections.singletonList(toDocument(key, value)));
     }
 
     @Override
@@ -79,7 +83,16 @@ public class ArangoDBBucketManager implements BucketManager {
 
     @Override
     public  void put(Iterable<KeyValueEntity> keyValueEntities) throws NullPointerException {
-        keyValueEntities.forEach(this::put);
+        Objects.requireNonNull(keyValueEntities, "keyValueEntities is required");
+        Map<String, Map<String, Object>> documents = new LinkedHashMap<>();
+        for (KeyValueEntity entity : keyValueEntities) {
+            Objects.requireNonNull(entity.getKey(), "Key is required");
+            Objects.requireNonNull(entity.getValue(), "value is required");
+            documents.put(entity.getKey().toString(), toDocument(entity.getKey(), entity.getValue()));
+        }
+        if (!documents.isEmpty()) {
+            upsert(new ArrayList<>(documents.values()));
+        }
     }
 
 
@@ -97,10 +110,16 @@ public class ArangoDBBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return stream(keys.spliterator(), false)
+        Objects.requireNonNull(keys, "Keys is required");
+        List<String> ids = stream(keys.spliterator(), false)
                 .map(Object::toString)
-                .map(k -> arangoDB.db(bucketName).collection(namespace)
-                        .getDocument(k, BaseDocument.class))
+                .collect(toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Collection<BaseDocument> documents = arangoDB.db(bucketName).collection(namespace)
+                .getDocuments(ids, BaseDocument.class).getDocuments();
+        return documents.stream()
                 .filter(Objects::nonNull)
                 .map(TO_JSON)
                 .map(ValueJSON::of)
@@ -126,6 +145,20 @@ public class ArangoDBBucketManager implements BucketManager {
 
     }
 
+    private void upsert(List<Map<String, Object>> documents) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("documents", documents);
+        values.put("@collection", namespace);
+        arangoDB.db(bucketName).query(UPSERT, values, null, BaseDocument.class);
+    }
+
+    private static Map<String, Object> toDocument(Object key, Object value) {
+        Map<String, Object> document = new HashMap<>();
+        document.put(KEY, key.toString());
+        document.put(VALUE, JSONB.toJson(value));
+        return document;
+    }
+
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
         throw new UnsupportedOperationException("ArangoDB does not support TTL");
@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.diana.arangodb.document;
 
 import com.arangodb.ArangoDB;
+import com.arangodb.model.AqlQueryOptions;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
@@ -33,10 +34,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
 import static jakarta.nosql.document.DocumentQuery.select;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.eclipse.jnosql.diana.arangodb.document.ArangoDBDocumentCollectionManagerFactorySupplier.INSTANCE;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -45,6 +48,7 @@ import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ArangoDBDocumentCollectionManagerTest {
@@ -233,6 +237,98 @@ public class ArangoDBDocumentCollectionManagerTest {
         assertFalse(entities.isEmpty());
     }
 
+    @Test
+    public void shouldSaveWhenCollectionIsDropped() {
+        entityManager.insert(getEntity());
+        ArangoDB arangoDB = DefaultArangoDBDocumentCollectionManager.class.cast(entityManager).getArangoDB();
+        arangoDB.db(DATABASE).collection(COLLECTION_NAME).drop();
+
+        DocumentEntity entity = entityManager.insert(getEntity());
+        assertTrue(entity.find(KEY_NAME).isPresent());
+        assertEquals(1L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldSaveInBulk() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity());
+        Iterable<DocumentEntity> result = entityManager.insert(entities);
+        for (DocumentEntity entity : result) {
+            assertTrue(entity.find(KEY_NAME).isPresent());
+            assertTrue(entity.find("_id").isPresent());
+            assertTrue(entity.find("_rev").isPresent());
+        }
+        assertEquals(3L, entityManager.count(COLLECTION_NAME));
+    }
+
+    @Test
+    public void shouldUpdateInBulk() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity());
+        entityManager.insert(entities);
+        entities.forEach(e -> {
+            e.remove("city");
+            e.add(Document.of("city", "Rio de Janeiro"));
+        });
+        entityManager.update(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("city").eq("Rio de Janeiro").build();
+        assertEquals(2L, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenBulkHasDuplicatedKey() {
+        DocumentEntity entity = getEntity();
+        entity.remove(KEY_NAME);
+        entity.add(Document.of(KEY_NAME, "duplicated"));
+        DocumentEntity entity2 = getEntity();
+        entity2.remove(KEY_NAME);
+        entity2.add(Document.of(KEY_NAME, "duplicated"));
+        assertThrows(ArangoDBException.class, () -> entityManager.insert(asList(entity, entity2)));
+        assertTrue(entity.find("_rev").isPresent());
+    }
+
+    @Test
+    public void shouldSelectWithCursorOptions() {
+        entityManager.insert(asList(getEntity(), getEntity(), getEntity()));
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        AqlQueryOptions options = new AqlQueryOptions().batchSize(1).ttl(30);
+        try (Stream<DocumentEntity> entities = entityManager.select(ArangoDBDocumentQuery.of(query, options))) {
+            assertEquals(3L, entities.count());
+        }
+    }
+
+    @Test
+    public void shouldRunAQLWithCursorOptions() {
+        entityManager.insert(asList(getEntity(), getEntity()));
+        String aql = "FOR a IN person FILTER a.name == @name RETURN a";
+        AqlQueryOptions options = new AqlQueryOptions().batchSize(1).count(true);
+        List<DocumentEntity> entities = entityManager.aql(aql, singletonMap("name", "Poliana"), options)
+                .collect(Collectors.toList());
+        assertEquals(2, entities.size());
+    }
+
+    @Test
+    public void shouldReadValuesFromVelocyPack() {
+        DocumentEntity entity = getEntity();
+        entity.add(Document.of("age", 25));
+        entity.add(Document.of("active", true));
+        entity.add(Document.of("languages", asList("Portuguese", "English")));
+        entity.add(Document.of("address", asList(Document.of("street", "Rua"), Document.of("number", 10))));
+        entity.add(Document.of("mixed", asList(Document.of("street", "Rua"), "x")));
+        DocumentEntity entitySaved = entityManager.insert(entity);
+        Document id = entitySaved.find(KEY_NAME).get();
+        DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+        DocumentEntity entityFound = entityManager.select(query).findFirst().get();
+
+        assertEquals(COLLECTION_NAME, entityFound.getName());
+        assertEquals(25L, entityFound.find("age").get().get());
+        assertEquals(true, entityFound.find("active").get().get());
+        assertEquals(asList("Portuguese", "English"), entityFound.find("languages").get().get());
+        List<Document> address = entityFound.find("address").get().get(new TypeReference<List<Document>>() {
+        });
+        assertThat(address, containsInAnyOrder(Document.of("street", "Rua"), Document.of("number", 10L)));
+        assertEquals(asList(singletonList(Document.of("street", "Rua")), "x"), entityFound.find("mixed").get().get());
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
@@ -15,13 +15,16 @@
 
 package org.eclipse.jnosql.diana.arangodb.document;
 
+import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import jakarta.nosql.document.DocumentConfiguration;
 import jakarta.nosql.document.DocumentConfigurationAsync;
+import org.eclipse.jnosql.diana.arangodb.ArangoDBConfigurations;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ArangoDBDocumentConfigurationTest {
 
@@ -34,6 +37,14 @@ public class ArangoDBDocumentConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReturnErrorWhenBulkSizeIsNotPositive() {
+        ArangoDBDocumentConfiguration configuration = new ArangoDBDocumentConfiguration();
+        Settings settings = Settings.builder().put(ArangoDBConfigurations.BULK_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setBulkSize(0));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         ArangoDBDocumentConfiguration configuration = DocumentConfiguration.getConfiguration();
@@ -83,6 +83,15 @@ public class ArangoDBKeyValueEntityManagerTest {
         assertEquals(userSoro, soro.get().get(User.class));
     }
 
+    @Test
+    public void shouldReplaceValue() {
+        keyValueEntityManager.put(keyValueOtavio);
+        keyValueEntityManager.put(asList(KeyValueEntity.of("otavio", userSoro), keyValueSoro));
+        Optional<Value> otavio = keyValueEntityManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(userSoro, otavio.get().get(User.class));
+    }
+
     @Test
     public void shouldMultiGet() {
         User user = new User("otavio");
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.couchdb.document;
+
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Walks through every document of a query following the _find bookmark one page at a time. Without an
+ * {@link Executor} each page is streamed from the response on demand; with an {@link Executor} the current page
+ * is kept in memory and the next one is requested while the current is consumed, so at most two pages are held
+ * at once.
+ */
+final class BookmarkIterator implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private final Function<CouchDBDocumentQuery, MangoResultIterator> finder;
+
+    private final DocumentQuery query;
+
+    private final long pageSize;
+
+    private final Executor executor;
+
+    private Page current;
+
+    private boolean finished;
+
+    BookmarkIterator(Function<CouchDBDocumentQuery, MangoResultIterator> finder, DocumentQuery query,
+                     long pageSize, Executor executor) {
+        this.finder = finder;
+        this.query = query;
+        this.pageSize = pageSize;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!finished) {
+            if (current == null) {
+                current = activate(first());
+            }
+            if (current.documents.hasNext()) {
+                return true;
+            }
+            current.close();
+            current = activate(following(current));
+            finished = current == null;
+        }
+        return false;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more documents at the query");
+        }
+        current.consumed++;
+        return current.documents.next();
+    }
+
+    Stream<Map<String, Object>> stream() {
+        Spliterator<Map<String, Object>> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        if (Objects.nonNull(current)) {
+            current.close();
+            if (Objects.nonNull(current.following)) {
+                current.following.cancel(false);
+            }
+        }
+    }
+
+    private Page first() {
+        long remaining = query.getLimit() > 0 ? query.getLimit() : Long.MAX_VALUE;
+        String bookmark = null;
+        if (query instanceof CouchDBDocumentQuery) {
+            bookmark = CouchDBDocumentQuery.class.cast(query).getBookmark().orElse(null);
+        }
+        return fetch(bookmark, query.getSkip(), remaining);
+    }
+
+    private Page activate(Page page) {
+        if (Objects.nonNull(page) && Objects.nonNull(executor) && hasFollowing(page, page.loaded)) {
+            page.following = CompletableFuture.supplyAsync(() -> fetchFollowing(page), executor);
+        }
+        return page;
+    }
+
+    private Page following(Page page) {
+        if (Objects.isNull(executor)) {
+            return hasFollowing(page, page.consumed) ? fetchFollowing(page) : null;
+        }
+        if (Objects.isNull(page.following)) {
+            return null;
+        }
+        try {
+            return page.following.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new CouchDBHttpClientException("An error when try to load the next page", ex.getCause());
+        }
+    }
+
+    private boolean hasFollowing(Page page, long size) {
+        return size == page.limit && page.remaining > page.limit && page.query.getBookmark().isPresent();
+    }
+
+    private Page fetchFollowing(Page page) {
+        return fetch(page.query.getBookmark().get(), 0, page.remaining - page.limit);
+    }
+
+    private Page fetch(String bookmark, long skip, long remaining) {
+        long limit = Math.min(pageSize, remaining);
+        PageQuery pageQuery = new PageQuery(query, limit, skip);
+        CouchDBDocumentQuery couchDBQuery = Objects.isNull(bookmark) ? CouchDBDocumentQuery.of(pageQuery) :
+                CouchDBDocumentQuery.of(pageQuery, bookmark);
+        if (query instanceof CouchDBDocumentQuery) {
+            couchDBQuery = couchDBQuery.useIndex(CouchDBDocumentQuery.class.cast(query).getUseIndex());
+        }
+        MangoResultIterator result = finder.apply(couchDBQuery);
+        if (Objects.isNull(executor)) {
+            return new Page(couchDBQuery, limit, remaining, result, result, -1);
+        }
+        List<Map<String, Object>> documents = result.stream().collect(toList());
+        return new Page(couchDBQuery, limit, remaining, documents.iterator(), () -> {
+        }, documents.size());
+    }
+
+    private static final class Page {
+
+        private final CouchDBDocumentQuery query;
+
+        private final long limit;
+
+        private final long remaining;
+
+        private final Iterator<Map<String, Object>> documents;
+
+        private final AutoCloseable source;
+
+        private final long loaded;
+
+        private long consumed;
+
+        private CompletableFuture<Page> following;
+
+        private Page(CouchDBDocumentQuery query, long limit, long remaining,
+                     Iterator<Map<String, Object>> documents, AutoCloseable source, long loaded) {
+            this.query = query;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.documents = documents;
+            this.source = source;
+            this.loaded = loaded;
+        }
+
+        private void close() {
+            try {
+                source.close();
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new CouchDBHttpClientException("An error when try to close the page", ex);
+            }
+        }
+    }
+}
@@ -30,7 +30,10 @@ public enum  CouchDBConfigurations implements Supplier<String> {
     USER("couchdb.username"),
     PASSWORD("couchdb.password"),
     ENABLE_SSL("couchdb.enable.ssl"),
-    COMPRESSION("couchdb.compression");
+    COMPRESSION("couchdb.compression"),
+    BULK_SIZE("couchdb.bulk.size"),
+    ASYNC_THREADS("couchdb.async.threads"),
+    ASYNC_QUEUE_SIZE("couchdb.async.queue.size");
 
     private final String configuration;
 
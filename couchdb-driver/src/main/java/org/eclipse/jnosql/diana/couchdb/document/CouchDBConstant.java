@@ -26,9 +26,16 @@ final class CouchDBConstant {
 
     static final String ALL_DBS = "_all_dbs";
     static final String TOTAL_ROWS_RESPONSE = "total_rows";
-    static final String REV_HEADER = "If-Match";
     static final String FIND = "/_find";
     static final String DOCS_RESPONSE = "docs";
+    static final String BULK_DOCS = "/_bulk_docs";
+    static final String ALL_DOCS = "/_all_docs";
+    static final String DELETED = "_deleted";
+    static final String KEYS = "keys";
+    static final String ROWS_RESPONSE = "rows";
+    static final String VALUE_RESPONSE = "value";
+    static final String ERROR_RESPONSE = "error";
+    static final String REASON_RESPONSE = "reason";
 
     static final String COUNT = "/_all_docs?limit=0";
     static final String BOOKMARK = "bookmark";
@@ -48,6 +55,17 @@ final class CouchDBConstant {
     static final String SKIP_QUERY = "skip";
     static final String LIMIT_QUERY = "limit";
     static final String FIELDS_QUERY = "fields";
+    static final String USE_INDEX_QUERY = "use_index";
+
+    static final String INDEX = "/_index";
+    static final String EXPLAIN = "/_explain";
+    static final String INDEX_QUERY = "index";
+    static final String INDEXES_RESPONSE = "indexes";
+    static final String NAME = "name";
+    static final String TYPE = "type";
+    static final String DDOC = "ddoc";
+    static final String DEF = "def";
+    static final String DESIGN_PREFIX = "_design/";
 
     private CouchDBConstant() {
     }
@@ -17,9 +17,101 @@
 package org.eclipse.jnosql.diana.couchdb.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
+import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 public interface CouchDBDocumentCollectionManager extends DocumentCollectionManager {
 
+    /**
+     * Finds {@link DocumentEntity} from query. The _find response is parsed as it arrives and the result is
+     * loaded before returning, so the HTTP connection is already released; see
+     * {@link CouchDBDocumentCollectionManager#stream(DocumentQuery)} to read it lazily.
+     *
+     * @param query - query to figure out entities
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    @Override
+    Stream<DocumentEntity> select(DocumentQuery query);
+
+    /**
+     * Finds {@link DocumentEntity} from query reading the _find response lazily, one document at a time, so
+     * the whole result is never held in memory. The HTTP connection is kept while the stream is read and it is
+     * released either when the stream is fully consumed or when it is closed, so use it with try-with-resources
+     * when the stream might not be fully consumed, e.g. findFirst or limit.
+     *
+     * @param query the query
+     * @return a lazy stream that must be closed when it is not fully consumed
+     * @throws NullPointerException when query is null
+     */
+    Stream<DocumentEntity> stream(DocumentQuery query);
+
+    /**
+     * Returns every {@link DocumentEntity} that matches the query following the _find bookmark page by page.
+     * Each page is requested only when the previous one was consumed, so a full scan runs with constant memory.
+     * The query limit, when defined, is the total of elements returned across all pages.
+     *
+     * @param query    the query
+     * @param pageSize the number of documents requested per page
+     * @return a lazy stream that must be closed when it is not fully consumed
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when pageSize is negative or zero
+     */
+    Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize);
+
+    /**
+     * Returns every {@link DocumentEntity} that matches the query following the _find bookmark page by page.
+     * While a page is consumed the next one is requested at the executor, so at most two pages are held in memory.
+     * The query limit, when defined, is the total of elements returned across all pages.
+     *
+     * @param query    the query
+     * @param pageSize the number of documents requested per page
+     * @param executor the executor that reads the next page ahead
+     * @return a lazy stream that must be closed when it is not fully consumed
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when pageSize is negative or zero
+     */
+    Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize, Executor executor);
+
+    /**
+     * Creates a Mango json index, when there is already an index with the same definition CouchDB keeps it.
+     *
+     * @param index the index definition
+     * @return the index with the design document that holds it
+     * @throws NullPointerException when index is null
+     */
+    CouchDBIndex createIndex(CouchDBIndex index);
+
+    /**
+     * Returns the indexes of the database, including the special _all_docs one
+     *
+     * @return the indexes
+     */
+    List<CouchDBIndex> getIndexes();
+
+    /**
+     * Deletes a json index
+     *
+     * @param designDocument the design document that holds the index
+     * @param name           the index name
+     * @throws NullPointerException when there is null parameter
+     */
+    void deleteIndex(String designDocument, String name);
+
+    /**
+     * Returns the index CouchDB would use to run the query without executing it, a
+     * {@link CouchDBIndex#isSpecial()} index means the query scans the whole database.
+     *
+     * @param query the query
+     * @return the chosen index
+     * @throws NullPointerException when query is null
+     */
+    CouchDBIndex explain(DocumentQuery query);
+
     /**
      * Returns the number of elements of database
      *
@@ -20,6 +20,7 @@ import jakarta.nosql.document.DocumentCollectionManagerAsyncFactory;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 public class CouchDBDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory,
         DocumentCollectionManagerAsyncFactory {
@@ -27,8 +28,11 @@ public class CouchDBDocumentCollectionManagerFactory implements DocumentCollecti
 
     private final CouchDBHttpConfiguration configuration;
 
+    private final ExecutorService executor;
+
     CouchDBDocumentCollectionManagerFactory(CouchDBHttpConfiguration configuration) {
         this.configuration = configuration;
+        this.executor = configuration.createExecutorService();
     }
 
     @Override
@@ -44,10 +48,11 @@ public class CouchDBDocumentCollectionManagerFactory implements DocumentCollecti
     public CouchDBDocumentCollectionManagerAsync getAsync(String database) {
         Objects.requireNonNull(database, "database is required");
         CouchDBDocumentCollectionManager manager = get(database);
-        return new DefaultCouchDBDocumentCollectionManagerAsync(manager);
+        return new DefaultCouchDBDocumentCollectionManagerAsync(manager, executor);
     }
 
     @Override
     public void close() {
+        executor.shutdown();
     }
 }
@@ -41,6 +41,11 @@ import java.util.Objects;
  * <p>couchdb.password: </p>
  * <p>couchdb.enable.ssl: </p>
  * <p>couchdb.compression: </p>
+ * <p>couchdb.bulk.size: the maximum number of documents sent in a single _bulk_docs request</p>
+ * <p>couchdb.async.threads: the number of threads that run the asynchronous operations, the default value is
+ * couchdb.max.connections</p>
+ * <p>couchdb.async.queue.size: the number of asynchronous operations waiting for a thread, once it is full the
+ * operation is rejected: it fails without running and the failure is logged</p>
  *
  * @see CouchDBConfigurations
  */
@@ -79,6 +84,9 @@ public class CouchDBDocumentConfiguration implements DocumentConfiguration, Docu
         settings.computeIfPresent(CouchDBConfigurations.MAX_CACHE_ENTRIES.get(), (k, v) -> configuration.withMaxCacheEntries(Integer.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.ENABLE_SSL.get(), (k, v) -> configuration.withEnableSSL(Boolean.valueOf(v.toString())));
         settings.computeIfPresent(CouchDBConfigurations.COMPRESSION.get(), (k, v) -> configuration.withCompression(Boolean.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.BULK_SIZE.get(), (k, v) -> configuration.withBulkSize(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.ASYNC_THREADS.get(), (k, v) -> configuration.withAsyncThreads(Integer.valueOf(v.toString())));
+        settings.computeIfPresent(CouchDBConfigurations.ASYNC_QUEUE_SIZE.get(), (k, v) -> configuration.withAsyncQueueSize(Integer.valueOf(v.toString())));
         return new CouchDBDocumentCollectionManagerFactory(configuration.build());
     }
 }
\ No newline at end of file
@@ -20,13 +20,12 @@ import jakarta.nosql.Sort;
 import jakarta.nosql.document.DocumentCondition;
 import jakarta.nosql.document.DocumentQuery;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
-import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.BOOKMARK;
-
 /**
  * A CouchDB specialization of {@link DocumentQuery} that allows query with bookmark which can do pagination.
  *
@@ -40,6 +39,8 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
 
     private String bookmark;
 
+    private List<String> index = Collections.emptyList();
+
 
     private CouchDBDocumentQuery(DocumentQuery query) {
         this.query = query;
@@ -57,8 +58,51 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
         return Optional.ofNullable(bookmark);
     }
 
-    void setBookmark(Map<String, Object> json) {
-        json.computeIfPresent(BOOKMARK, (k, v) -> this.bookmark = v.toString());
+    void setBookmark(String bookmark) {
+        this.bookmark = bookmark;
+    }
+
+    /**
+     * The index CouchDB is asked to use, the use_index field: either the design document alone or the design
+     * document followed by the index name. Empty when CouchDB chooses the index.
+     *
+     * @return the index hint
+     */
+    public List<String> getUseIndex() {
+        return index;
+    }
+
+    /**
+     * Returns a copy of this query that instructs CouchDB to use any index of the design document.
+     *
+     * @param designDocument the design document
+     * @return a new instance with the index hint
+     * @throws NullPointerException when designDocument is null
+     */
+    public CouchDBDocumentQuery useIndex(String designDocument) {
+        Objects.requireNonNull(designDocument, "designDocument is required");
+        return useIndex(Collections.singletonList(designDocument));
+    }
+
+    /**
+     * Returns a copy of this query that instructs CouchDB to use the index.
+     *
+     * @param designDocument the design document
+     * @param name           the index name
+     * @return a new instance with the index hint
+     * @throws NullPointerException when there is null parameter
+     */
+    public CouchDBDocumentQuery useIndex(String designDocument, String name) {
+        Objects.requireNonNull(designDocument, "designDocument is required");
+        Objects.requireNonNull(name, "name is required");
+        return useIndex(Arrays.asList(designDocument, name));
+    }
+
+    CouchDBDocumentQuery useIndex(List<String> index) {
+        CouchDBDocumentQuery couchDBDocumentQuery = new CouchDBDocumentQuery(query);
+        couchDBDocumentQuery.bookmark = bookmark;
+        couchDBDocumentQuery.index = Collections.unmodifiableList(index);
+        return couchDBDocumentQuery;
     }
 
     @Override
@@ -101,12 +145,13 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
         }
         CouchDBDocumentQuery that = (CouchDBDocumentQuery) o;
         return Objects.equals(query, that.query) &&
-                Objects.equals(bookmark, that.bookmark);
+                Objects.equals(bookmark, that.bookmark) &&
+                Objects.equals(index, that.index);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, bookmark);
+        return Objects.hash(query, bookmark, index);
     }
 
     @Override
@@ -114,6 +159,7 @@ public final class CouchDBDocumentQuery implements DocumentQuery {
         final StringBuilder sb = new StringBuilder("CouchDBDocumentQuery{");
         sb.append("query=").append(query);
         sb.append(", bookmark='").append(bookmark).append('\'');
+        sb.append(", index=").append(index);
         sb.append('}');
         return sb.toString();
     }
@@ -22,6 +22,7 @@ import org.apache.http.impl.client.CloseableHttpClient;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 final class CouchDBHttpClient {
@@ -50,14 +51,30 @@ final class CouchDBHttpClient {
         return this.httpExecute.insert(database, entity);
     }
 
+    public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
+        return this.httpExecute.insert(database, entities);
+    }
+
     public DocumentEntity update(DocumentEntity entity) {
         return this.httpExecute.update(database, entity);
     }
 
+    public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
+        return this.httpExecute.update(database, entities);
+    }
+
     public Stream<DocumentEntity> select(DocumentQuery query) {
         return this.httpExecute.select(database, query);
     }
 
+    public Stream<DocumentEntity> stream(DocumentQuery query) {
+        return this.httpExecute.stream(database, query);
+    }
+
+    public Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize, Executor executor) {
+        return this.httpExecute.paginate(database, query, pageSize, executor);
+    }
+
     public void delete(DocumentDeleteQuery query) {
         this.httpExecute.delete(database, query);
     }
@@ -66,6 +83,26 @@ final class CouchDBHttpClient {
         return httpExecute.count(database);
     }
 
+    public long count(String documentCollection) {
+        return httpExecute.count(database, documentCollection);
+    }
+
+
+    public CouchDBIndex createIndex(CouchDBIndex index) {
+        return httpExecute.createIndex(database, index);
+    }
+
+    public List<CouchDBIndex> getIndexes() {
+        return httpExecute.getIndexes(database);
+    }
+
+    public void deleteIndex(String designDocument, String name) {
+        httpExecute.deleteIndex(database, designDocument, name);
+    }
+
+    public CouchDBIndex explain(DocumentQuery query) {
+        return httpExecute.explain(database, query);
+    }
 
     public void close() {
         try {
@@ -25,6 +25,13 @@ import org.apache.http.impl.client.cache.CacheConfig;
 import org.apache.http.impl.client.cache.CachingHttpClients;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 class CouchDBHttpConfiguration {
 
     private final String host;
@@ -41,6 +48,9 @@ class CouchDBHttpConfiguration {
     private final boolean compression;
     private final int maxObjectSizeBytes;
     private final int maxCacheEntries;
+    private final int bulkSize;
+    private final int asyncThreads;
+    private final int asyncQueueSize;
     private final String url;
 
 
@@ -48,7 +58,8 @@ class CouchDBHttpConfiguration {
                              int connectionTimeout, int socketTimeout,
                              boolean enableSSL, String username, String password,
                              boolean compression, int maxObjectSizeBytes,
-                             int maxCacheEntries) {
+                             int maxCacheEntries, int bulkSize,
+                             int asyncThreads, int asyncQueueSize) {
         this.host = host;
         this.port = port;
         this.maxConnections = maxConnections;
@@ -60,6 +71,9 @@ class CouchDBHttpConfiguration {
         this.compression = compression;
         this.maxObjectSizeBytes = maxObjectSizeBytes;
         this.maxCacheEntries = maxCacheEntries;
+        this.bulkSize = bulkSize;
+        this.asyncThreads = asyncThreads;
+        this.asyncQueueSize = asyncQueueSize;
         this.url = createUrl();
     }
 
@@ -82,6 +96,21 @@ class CouchDBHttpConfiguration {
         return url;
     }
 
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public ExecutorService createExecutorService() {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "couchdb-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(asyncThreads, asyncThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueSize), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
 
     private CloseableHttpClient getHttpClient() {
         CacheConfig cacheConfig = CacheConfig.custom()
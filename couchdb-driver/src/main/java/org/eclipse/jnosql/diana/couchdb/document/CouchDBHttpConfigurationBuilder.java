@@ -29,6 +29,9 @@ class CouchDBHttpConfigurationBuilder {
     private boolean compression = false;
     private int maxObjectSizeBytes = 8192;
     private int maxCacheEntries = 1000;
+    private int bulkSize = 1000;
+    private Integer asyncThreads;
+    private int asyncQueueSize = 1000;
 
     public CouchDBHttpConfigurationBuilder withPort(int port) {
         this.port = port;
@@ -60,6 +63,29 @@ class CouchDBHttpConfigurationBuilder {
         return this;
     }
 
+    public CouchDBHttpConfigurationBuilder withBulkSize(int bulkSize) {
+        if (bulkSize < 1) {
+            throw new IllegalArgumentException("The bulkSize must be greater than zero");
+        }
+        this.bulkSize = bulkSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withAsyncThreads(int asyncThreads) {
+        if (asyncThreads < 1) {
+            throw new IllegalArgumentException("The asyncThreads must be greater than zero");
+        }
+        this.asyncThreads = asyncThreads;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withAsyncQueueSize(int asyncQueueSize) {
+        if (asyncQueueSize < 1) {
+            throw new IllegalArgumentException("The asyncQueueSize must be greater than zero");
+        }
+        this.asyncQueueSize = asyncQueueSize;
+        return this;
+    }
 
     public CouchDBHttpConfigurationBuilder withCompression(boolean compression) {
         this.compression = compression;
@@ -90,7 +116,8 @@ class CouchDBHttpConfigurationBuilder {
         return new CouchDBHttpConfiguration(host, port, maxConnections, connectionTimeout,
                 socketTimeout, enableSSL, username, password,
                 compression,
-                maxObjectSizeBytes, maxCacheEntries);
+                maxObjectSizeBytes, maxCacheEntries, bulkSize,
+                asyncThreads == null ? maxConnections : asyncThreads, asyncQueueSize);
     }
 
 
@@ -0,0 +1,170 @@
+/*
+ *
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.diana.couchdb.document;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A Mango index definition. The JSON indexes are created with {@link CouchDBDocumentCollectionManager#createIndex}
+ * and CouchDB picks one of them to run a _find query, the chosen index is returned by
+ * {@link CouchDBDocumentCollectionManager#explain(jakarta.nosql.document.DocumentQuery)}.
+ * A {@link CouchDBIndex#isSpecial()} index means the query runs as a full scan of the database.
+ *
+ * @see CouchDBIndex#of(String, String...)
+ * @see CouchDBIndex#of(String, String, List)
+ */
+public final class CouchDBIndex {
+
+    static final String JSON_TYPE = "json";
+
+    static final String SPECIAL_TYPE = "special";
+
+    private final String name;
+
+    private final String designDocument;
+
+    private final String type;
+
+    private final List<String> fields;
+
+    CouchDBIndex(String name, String designDocument, String type, List<String> fields) {
+        this.name = name;
+        this.designDocument = designDocument;
+        this.type = type;
+        this.fields = Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * The index name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The design document that holds the index, when it is not defined at creation CouchDB generates one
+     *
+     * @return the design document
+     */
+    public Optional<String> getDesignDocument() {
+        return Optional.ofNullable(designDocument);
+    }
+
+    /**
+     * The index type: json or special, the _all_docs index
+     *
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * The indexed fields in the order they are defined
+     *
+     * @return the fields
+     */
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Checks if it is the _all_docs index, a query that uses it reads the whole database
+     *
+     * @return true when the type is special
+     */
+    public boolean isSpecial() {
+        return SPECIAL_TYPE.equals(type);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CouchDBIndex that = (CouchDBIndex) o;
+        return Objects.equals(name, that.name) &&
+                Objects.equals(designDocument, that.designDocument) &&
+                Objects.equals(type, that.type) &&
+                Objects.equals(fields, that.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, designDocument, type, fields);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("CouchDBIndex{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", designDocument='").append(designDocument).append('\'');
+        sb.append(", type='").append(type).append('\'');
+        sb.append(", fields=").append(fields);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    /**
+     * returns a new json index definition
+     *
+     * @param name   the index name
+     * @param fields the fields, the entity field is added as the first one when it is missing because every
+     *               query selector filters by it
+     * @return a new instance
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when fields is empty
+     */
+    public static CouchDBIndex of(String name, String... fields) {
+        Objects.requireNonNull(fields, "fields is required");
+        return of(name, null, Arrays.asList(fields));
+    }
+
+    /**
+     * returns a new json index definition
+     *
+     * @param name           the index name
+     * @param designDocument the design document that will hold the index, it might be null
+     * @param fields         the fields, the entity field is added as the first one when it is missing because
+     *                       every query selector filters by it
+     * @return a new instance
+     * @throws NullPointerException     when name or fields is null
+     * @throws IllegalArgumentException when fields is empty
+     */
+    public static CouchDBIndex of(String name, String designDocument, List<String> fields) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(fields, "fields is required");
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("The index requires at least one field");
+        }
+        List<String> indexFields = new ArrayList<>(fields);
+        if (!indexFields.contains(CouchDBConstant.ENTITY)) {
+            indexFields.add(0, CouchDBConstant.ENTITY);
+        }
+        return new CouchDBIndex(name, designDocument, JSON_TYPE, indexFields);
+    }
+}
@@ -21,7 +21,9 @@ import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -49,8 +51,7 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return connector.insert(entities);
     }
 
     @Override
@@ -70,8 +71,7 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return connector.update(entities);
     }
 
     @Override
@@ -86,6 +86,51 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
         return connector.select(query);
     }
 
+    @Override
+    public Stream<DocumentEntity> stream(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return connector.stream(query);
+    }
+
+    @Override
+    public Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize) {
+        Objects.requireNonNull(query, "query is required");
+        checkPageSize(pageSize);
+        return connector.paginate(query, pageSize, null);
+    }
+
+    @Override
+    public Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize, Executor executor) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(executor, "executor is required");
+        checkPageSize(pageSize);
+        return connector.paginate(query, pageSize, executor);
+    }
+
+    @Override
+    public CouchDBIndex createIndex(CouchDBIndex index) {
+        Objects.requireNonNull(index, "index is required");
+        return connector.createIndex(index);
+    }
+
+    @Override
+    public List<CouchDBIndex> getIndexes() {
+        return connector.getIndexes();
+    }
+
+    @Override
+    public void deleteIndex(String designDocument, String name) {
+        Objects.requireNonNull(designDocument, "designDocument is required");
+        Objects.requireNonNull(name, "name is required");
+        connector.deleteIndex(designDocument, name);
+    }
+
+    @Override
+    public CouchDBIndex explain(DocumentQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return connector.explain(query);
+    }
+
     @Override
     public long count() {
         return connector.count();
@@ -93,8 +138,8 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
 
     @Override
     public long count(String documentCollection) {
-       throw new UnsupportedOperationException("CouchDB does not have support to count by document Collection," +
-               " to total of elments at database use CouchDBDocumentCollectionManager#count");
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return connector.count(documentCollection);
     }
 
     @Override
@@ -102,4 +147,10 @@ class DefaultCouchDBDocumentCollectionManager implements CouchDBDocumentCollecti
         connector.close();
     }
 
+    private void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
+        }
+    }
+
 }
@@ -23,26 +23,35 @@ import jakarta.nosql.document.DocumentQuery;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocumentCollectionManagerAsync {
 
+    private static final Logger LOGGER = Logger.getLogger(DefaultCouchDBDocumentCollectionManagerAsync.class.getName());
+
     private final CouchDBDocumentCollectionManager manager;
 
-    DefaultCouchDBDocumentCollectionManagerAsync(CouchDBDocumentCollectionManager manager) {
+    private final Executor executor;
+
+    DefaultCouchDBDocumentCollectionManagerAsync(CouchDBDocumentCollectionManager manager, Executor executor) {
         this.manager = manager;
+        this.executor = executor;
     }
 
 
     @Override
     public void insert(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
-        supplyAsync(() -> manager.insert(entity));
+        async(() -> manager.insert(entity));
     }
 
     @Override
@@ -53,7 +62,7 @@ final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocum
     @Override
     public void insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        entities.forEach(this::insert);
+        async(() -> manager.insert(entities));
     }
 
     @Override
@@ -67,7 +76,7 @@ final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocum
     public void insert(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        CompletableFuture<DocumentEntity> async = supplyAsync(() -> manager.insert(entity));
+        CompletableFuture<DocumentEntity> async = async(() -> manager.insert(entity));
         async.thenAccept(callBack::accept);
     }
 
@@ -79,34 +88,34 @@ final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocum
     @Override
     public void update(DocumentEntity entity) {
         requireNonNull(entity, "entity is required");
-        CompletableFuture<DocumentEntity> async = supplyAsync(() -> manager.update(entity));
+        CompletableFuture<DocumentEntity> async = async(() -> manager.update(entity));
     }
 
     @Override
     public void update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        entities.forEach(this::update);
+        async(() -> manager.update(entities));
     }
 
     @Override
     public void update(DocumentEntity entity, Consumer<DocumentEntity> callBack) {
         requireNonNull(entity, "entity is required");
         requireNonNull(callBack, "callBack is required");
-        CompletableFuture<DocumentEntity> async = supplyAsync(() -> manager.update(entity));
+        CompletableFuture<DocumentEntity> async = async(() -> manager.update(entity));
         async.thenAccept(callBack::accept);
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
-        runAsync(() -> manager.delete(query));
+        run(() -> manager.delete(query));
     }
 
     @Override
     public void delete(DocumentDeleteQuery query, Consumer<Void> callBack) {
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
-        CompletableFuture<Void> async = runAsync(() -> manager.delete(query));
+        CompletableFuture<Void> async = run(() -> manager.delete(query));
         async.thenAccept(callBack::accept);
 
     }
@@ -115,13 +124,16 @@ final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocum
     public void select(DocumentQuery query, Consumer<Stream<DocumentEntity>> callBack) {
         requireNonNull(query, "query is required");
         requireNonNull(callBack, "callBack is required");
-        CompletableFuture<Stream<DocumentEntity>> async = supplyAsync(() -> manager.select(query));
+        CompletableFuture<Stream<DocumentEntity>> async = async(() -> manager.select(query));
         async.thenAccept(callBack::accept);
     }
 
     @Override
     public void count(String documentCollection, Consumer<Long> callback) {
-        throw new UnsupportedOperationException("CouchDB does not support TTL operation");
+        requireNonNull(documentCollection, "documentCollection is required");
+        requireNonNull(callback, "callback is required");
+        CompletableFuture<Long> async = async(() -> manager.count(documentCollection));
+        async.thenAccept(callback::accept);
     }
 
     @Override
@@ -132,7 +144,29 @@ final class DefaultCouchDBDocumentCollectionManagerAsync implements CouchDBDocum
     @Override
     public void count(Consumer<Long> callback) {
         requireNonNull(callback, "callback is required");
-        CompletableFuture<Long> async = supplyAsync(() -> manager.count());
+        CompletableFuture<Long> async = async(() -> manager.count());
         async.thenAccept(callback::accept);
     }
+
+    private CompletableFuture<Void> run(Runnable operation) {
+        return async(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> operation) {
+        CompletableFuture<T> async;
+        try {
+            async = supplyAsync(operation, executor);
+        } catch (RejectedExecutionException ex) {
+            async = new CompletableFuture<>();
+            async.completeExceptionally(ex);
+        }
+        async.exceptionally(ex -> {
+            LOGGER.log(Level.WARNING, "The CouchDB async operation failed", ex);
+            return null;
+        });
+        return async;
+    }
 }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.diana.couchdb.document;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -36,6 +37,14 @@ final class DeleteElement {
         return rev;
     }
 
+    Map<String, Object> toJson() {
+        Map<String, Object> json = new HashMap<>();
+        json.put(CouchDBConstant.ID, id);
+        json.put(CouchDBConstant.REV, rev);
+        json.put(CouchDBConstant.DELETED, true);
+        return json;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
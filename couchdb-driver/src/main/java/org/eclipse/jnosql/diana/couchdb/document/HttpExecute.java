@@ -17,8 +17,8 @@ package org.eclipse.jnosql.diana.couchdb.document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.apache.commons.codec.EncoderException;
 import org.apache.commons.codec.net.URLCodec;
-import org.apache.http.HttpEntity;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
@@ -29,22 +29,33 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.eclipse.jnosql.diana.document.Documents;
 import org.eclipse.jnosql.diana.driver.JsonbSupplier;
 
+import javax.json.Json;
 import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 import javax.json.bind.Jsonb;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
 import static org.apache.http.entity.ContentType.APPLICATION_JSON;
 
 class HttpExecute {
@@ -60,6 +71,9 @@ class HttpExecute {
     private static final Type JSON = new HashMap<String, Object>() {
     }.getClass().getGenericSuperclass();
 
+    private static final Type LIST_JSON = new ArrayList<Map<String, Object>>() {
+    }.getClass().getGenericSuperclass();
+
 
 
     private final CouchDBHttpConfiguration configuration;
@@ -88,9 +102,8 @@ class HttpExecute {
     }
 
     public DocumentEntity insert(String database, DocumentEntity entity) {
-        Map<String, Object> map = new HashMap<>(entity.toMap());
+        Map<String, Object> map = toJson(entity);
         String id = map.getOrDefault(CouchDBConstant.ID, "").toString();
-        map.put(CouchDBConstant.ENTITY, entity.getName());
         try {
             HttpEntityEnclosingRequestBase request;
             if (id.isEmpty()) {
@@ -114,24 +127,69 @@ class HttpExecute {
         }
     }
 
+    public List<DocumentEntity> insert(String database, Iterable<DocumentEntity> entities) {
+        List<DocumentEntity> result = new ArrayList<>();
+        entities.forEach(result::add);
+        int bulkSize = configuration.getBulkSize();
+        for (int start = 0; start < result.size(); start += bulkSize) {
+            bulk(database, result.subList(start, Math.min(start + bulkSize, result.size())));
+        }
+        return result;
+    }
+
     public DocumentEntity update(String database, DocumentEntity entity) {
         String id = getId(entity);
-        Map<String, Object> json = findById(database, id);
-        entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        if (!entity.find(CouchDBConstant.REV).isPresent()) {
+            Map<String, Object> json = findById(database, id);
+            entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        }
         return insert(database, entity);
     }
 
+    public List<DocumentEntity> update(String database, Iterable<DocumentEntity> entities) {
+        List<DocumentEntity> result = new ArrayList<>();
+        entities.forEach(result::add);
+        List<DocumentEntity> withoutRevision = result.stream()
+                .filter(e -> !e.find(CouchDBConstant.REV).isPresent())
+                .collect(toList());
+        if (!withoutRevision.isEmpty()) {
+            Map<String, Object> revisions = findRevisions(database, withoutRevision.stream()
+                    .map(this::getId).collect(toList()));
+            for (DocumentEntity entity : withoutRevision) {
+                String id = getId(entity);
+                Object revision = Optional.ofNullable(revisions.get(id)).orElseThrow(() ->
+                        new CouchDBHttpClientException("There is not a document with the id: " + id));
+                entity.add(CouchDBConstant.REV, revision);
+            }
+        }
+        return insert(database, result);
+    }
+
     public Stream<DocumentEntity> select(String database, DocumentQuery query) {
-        List<Map<String, Object>> entities = executeQuery(database, query);
-        return entities.stream().map(this::toEntity);
+        try (Stream<DocumentEntity> entities = stream(database, query)) {
+            return entities.collect(toList()).stream();
+        }
+    }
+
+    public Stream<DocumentEntity> stream(String database, DocumentQuery query) {
+        return executeQuery(database, query).stream().map(this::toEntity);
+    }
+
+    public Stream<DocumentEntity> paginate(String database, DocumentQuery query, int pageSize, Executor executor) {
+        BookmarkIterator iterator = new BookmarkIterator(q -> executeQuery(database, q), query, pageSize, executor);
+        return iterator.stream().map(this::toEntity);
     }
 
     public void delete(String database, DocumentDeleteQuery query) {
-        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new DeleteQuery(query));
-        List<Map<String, Object>> entities = executeQuery(database, documentQuery);
+        DeleteQuery documentQuery = new DeleteQuery(query, configuration.getBulkSize());
+        List<Map<String, Object>> entities = executeQuery(database, documentQuery).stream().collect(toList());
         while (!entities.isEmpty()) {
-            entities.stream().map(DeleteElement::new).forEach(id -> this.delete(database, id));
-            entities = executeQuery(database, documentQuery);
+            List<Map<String, Object>> documents = entities.stream()
+                    .map(DeleteElement::new)
+                    .map(DeleteElement::toJson)
+                    .collect(toList());
+            checkBulkResponse(bulkDocs(database, documents));
+            entities = executeQuery(database, documentQuery).stream().collect(toList());
         }
     }
 
@@ -143,26 +201,154 @@ class HttpExecute {
     }
 
 
-    private void delete(String database, DeleteElement id) {
-        HttpDelete request = new HttpDelete(configuration.getUrl().concat(database).concat("/").concat(id.getId()));
-        request.addHeader(CouchDBConstant.REV_HEADER, id.getRev());
-        execute(request, null, HttpStatus.SC_OK, true);
+    private void bulk(String database, List<DocumentEntity> entities) {
+        List<Map<String, Object>> documents = entities.stream().map(this::toJson).collect(toList());
+        List<Map<String, Object>> responses = bulkDocs(database, documents);
+        for (int index = 0; index < responses.size(); index++) {
+            Map<String, Object> response = responses.get(index);
+            if (!response.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+                DocumentEntity entity = entities.get(index);
+                entity.add(CouchDBConstant.ID, response.get(CouchDBConstant.ID_RESPONSE));
+                entity.add(CouchDBConstant.REV, response.get(CouchDBConstant.REV_RESPONSE));
+            }
+        }
+        checkBulkResponse(responses);
     }
 
+    private List<Map<String, Object>> bulkDocs(String database, List<Map<String, Object>> documents) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.BULK_DOCS));
+        setHeader(request);
+        Map<String, Object> json = Collections.singletonMap(CouchDBConstant.DOCS_RESPONSE, documents);
+        request.setEntity(new StringEntity(JSONB.toJson(json), APPLICATION_JSON));
+        return execute(request, LIST_JSON, HttpStatus.SC_CREATED);
+    }
+
+    private void checkBulkResponse(List<Map<String, Object>> responses) {
+        String errors = responses.stream()
+                .filter(r -> r.containsKey(CouchDBConstant.ERROR_RESPONSE))
+                .map(r -> r.get(CouchDBConstant.ID_RESPONSE) + ": " + r.get(CouchDBConstant.ERROR_RESPONSE)
+                        + " " + r.get(CouchDBConstant.REASON_RESPONSE))
+                .collect(Collectors.joining(", "));
+        if (!errors.isEmpty()) {
+            throw new CouchDBHttpClientException("There is an error on the bulk operation: " + errors);
+        }
+    }
+
+    private Map<String, Object> findRevisions(String database, List<String> ids) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.ALL_DOCS));
+        setHeader(request);
+        Map<String, Object> keys = Collections.singletonMap(CouchDBConstant.KEYS, ids);
+        request.setEntity(new StringEntity(JSONB.toJson(keys), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) json
+                .getOrDefault(CouchDBConstant.ROWS_RESPONSE, emptyList());
+        Map<String, Object> revisions = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            Object value = row.get(CouchDBConstant.VALUE_RESPONSE);
+            if (value instanceof Map && row.get(CouchDBConstant.ID_RESPONSE) != null) {
+                revisions.put(row.get(CouchDBConstant.ID_RESPONSE).toString(),
+                        ((Map<String, Object>) value).get(CouchDBConstant.REV_RESPONSE));
+            }
+        }
+        return revisions;
+    }
+
+    private Map<String, Object> toJson(DocumentEntity entity) {
+        Map<String, Object> map = new HashMap<>(entity.toMap());
+        map.put(CouchDBConstant.ENTITY, entity.getName());
+        return map;
+    }
+
+
+    public long count(String database, String documentCollection) {
+        DocumentQuery query = DocumentQuery.select(CouchDBConstant.ID).from(documentCollection).build();
+        BookmarkIterator iterator = new BookmarkIterator(q -> executeQuery(database, q), query,
+                configuration.getBulkSize(), null);
+        try (Stream<Map<String, Object>> documents = iterator.stream()) {
+            return documents.count();
+        }
+    }
+
+    public CouchDBIndex createIndex(String database, CouchDBIndex index) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX));
+        setHeader(request);
+        JsonObjectBuilder json = Json.createObjectBuilder()
+                .add(CouchDBConstant.INDEX_QUERY, Json.createObjectBuilder()
+                        .add(CouchDBConstant.FIELDS_QUERY, Json.createArrayBuilder(index.getFields())))
+                .add(CouchDBConstant.NAME, index.getName())
+                .add(CouchDBConstant.TYPE, index.getType());
+        index.getDesignDocument().ifPresent(d -> json.add(CouchDBConstant.DDOC, d));
+        request.setEntity(new StringEntity(json.build().toString(), APPLICATION_JSON));
+        Map<String, Object> response = execute(request, JSON, HttpStatus.SC_OK);
+        String designDocument = response.getOrDefault(CouchDBConstant.ID_RESPONSE, "").toString();
+        return new CouchDBIndex(index.getName(), designDocument, index.getType(), index.getFields());
+    }
 
-    private List<Map<String, Object>> executeQuery(String database, DocumentQuery query) {
+    public List<CouchDBIndex> getIndexes(String database) {
+        HttpGet request = new HttpGet(configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<Map<String, Object>> indexes = (List<Map<String, Object>>) json
+                .getOrDefault(CouchDBConstant.INDEXES_RESPONSE, emptyList());
+        return indexes.stream().map(this::toIndex).collect(toList());
+    }
+
+    public void deleteIndex(String database, String designDocument, String name) {
+        String document = designDocument.startsWith(CouchDBConstant.DESIGN_PREFIX) ? designDocument :
+                CouchDBConstant.DESIGN_PREFIX.concat(designDocument);
+        String url = configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX).concat("/")
+                .concat(document).concat("/").concat(CouchDBIndex.JSON_TYPE).concat("/").concat(encode(name));
+        execute(new HttpDelete(url), JSON, HttpStatus.SC_OK);
+    }
+
+    public CouchDBIndex explain(String database, DocumentQuery query) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.EXPLAIN));
+        setHeader(request);
+        request.setEntity(new StringEntity(converter.apply(query).toString(), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        return toIndex((Map<String, Object>) json.get(CouchDBConstant.INDEX_QUERY));
+    }
+
+    private MangoResultIterator executeQuery(String database, DocumentQuery query) {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
         JsonObject mangoQuery = converter.apply(query);
         request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
-        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        Consumer<String> bookmark = b -> {
+        };
         if (query instanceof CouchDBDocumentQuery) {
-            CouchDBDocumentQuery.class.cast(query).setBookmark(json);
+            bookmark = CouchDBDocumentQuery.class.cast(query)::setBookmark;
+        }
+        CloseableHttpResponse response = open(request, HttpStatus.SC_OK);
+        try {
+            return new MangoResultIterator(response.getEntity().getContent(), response, bookmark);
+        } catch (CouchDBHttpClientException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            close(response);
+            throw new CouchDBHttpClientException("An error to access the database", ex);
         }
-        return (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
     }
 
 
+    private CouchDBIndex toIndex(Map<String, Object> json) {
+        Object designDocument = json.get(CouchDBConstant.DDOC);
+        Map<String, Object> definition = (Map<String, Object>) json.getOrDefault(CouchDBConstant.DEF, emptyMap());
+        List<Map<String, Object>> fields = (List<Map<String, Object>>) definition
+                .getOrDefault(CouchDBConstant.FIELDS_QUERY, emptyList());
+        return new CouchDBIndex(json.get(CouchDBConstant.NAME).toString(),
+                Objects.isNull(designDocument) ? null : designDocument.toString(),
+                json.get(CouchDBConstant.TYPE).toString(),
+                fields.stream().flatMap(f -> f.keySet().stream()).collect(toList()));
+    }
+
+    private String encode(String value) {
+        try {
+            return CODEC.encode(value);
+        } catch (EncoderException ex) {
+            throw new CouchDBHttpClientException("There is an error to encode the value: " + value, ex);
+        }
+    }
+
     private DocumentEntity toEntity(Map<String, Object> jsonEntity) {
         DocumentEntity entity = DocumentEntity.of(jsonEntity.get(CouchDBConstant.ENTITY).toString());
         entity.addAll(Documents.of(jsonEntity));
@@ -183,33 +369,51 @@ class HttpExecute {
     }
 
     private <T> T execute(HttpUriRequest request, Type type, int expectedStatus) {
-        return execute(request, type, expectedStatus, false);
+        try (CloseableHttpResponse result = open(request, expectedStatus)) {
+            if (Objects.isNull(type)) {
+                return null;
+            }
+            try (InputStream stream = result.getEntity().getContent()) {
+                return JSONB.fromJson(stream, type);
+            }
+        } catch (CouchDBHttpClientException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new CouchDBHttpClientException("An error to access the database", ex);
+        }
     }
 
-    private <T> T execute(HttpUriRequest request, Type type, int expectedStatus, boolean ignoreStatus) {
-        try (CloseableHttpResponse result = client.execute(request)) {
-            if (!ignoreStatus && result.getStatusLine().getStatusCode() != expectedStatus) {
-                ByteArrayOutputStream stream = new ByteArrayOutputStream();
-                result.getEntity().writeTo(stream);
-                String response = new String(stream.toByteArray(), UTF_8);
+    private CloseableHttpResponse open(HttpUriRequest request, int expectedStatus) {
+        CloseableHttpResponse result = null;
+        try {
+            result = client.execute(request);
+            if (result.getStatusLine().getStatusCode() != expectedStatus) {
+                String response = EntityUtils.toString(result.getEntity(), UTF_8);
                 throw new CouchDBHttpClientException("There is an error when load the database status: " +
                         result.getStatusLine().getStatusCode()
                         + " error: " + response);
             }
-            if (Objects.isNull(type)) {
-                return null;
-            }
-            HttpEntity entity = result.getEntity();
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            entity.writeTo(stream);
-            return JSONB.fromJson(new String(stream.toByteArray(), UTF_8), type);
+            return result;
         } catch (CouchDBHttpClientException ex) {
+            close(result);
             throw ex;
         } catch (Exception ex) {
+            close(result);
             throw new CouchDBHttpClientException("An error to access the database", ex);
         }
     }
 
+    private void close(CloseableHttpResponse response) {
+        if (Objects.isNull(response)) {
+            return;
+        }
+        try {
+            response.close();
+        } catch (IOException ex) {
+            throw new CouchDBHttpClientException("An error when try to close the http response", ex);
+        }
+    }
+
     private void setHeader(HttpEntityEnclosingRequestBase request) {
         request.setHeader("Accept", APPLICATION_JSON.getMimeType());
         request.setHeader("Content-type", APPLICATION_JSON.getMimeType());
@@ -45,6 +45,7 @@ import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.LT_CONDI
 import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.SELECTOR_QUERY;
 import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.SKIP_QUERY;
 import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.SORT_QUERY;
+import static org.eclipse.jnosql.diana.couchdb.document.CouchDBConstant.USE_INDEX_QUERY;
 
 final class MangoQueryConverter implements Function<DocumentQuery, JsonObject> {
 
@@ -72,8 +73,10 @@ final class MangoQueryConverter implements Function<DocumentQuery, JsonObject> {
         }
 
         if (documentQuery instanceof CouchDBDocumentQuery) {
-            Optional<String> bookmark = CouchDBDocumentQuery.class.cast(documentQuery).getBookmark();
+            CouchDBDocumentQuery couchDBQuery = CouchDBDocumentQuery.class.cast(documentQuery);
+            Optional<String> bookmark = couchDBQuery.getBookmark();
             bookmark.ifPresent(b -> bookmark(b, select));
+            useIndex(couchDBQuery.getUseIndex(), select);
         }
 
         JsonObject selector = getSelector(documentQuery);
@@ -84,6 +87,14 @@ final class MangoQueryConverter implements Function<DocumentQuery, JsonObject> {
         select.add(BOOKMARK, bookmark);
     }
 
+    private void useIndex(List<String> index, JsonObjectBuilder select) {
+        if (index.size() == 1) {
+            select.add(USE_INDEX_QUERY, index.get(0));
+        } else if (index.size() > 1) {
+            select.add(USE_INDEX_QUERY, Json.createArrayBuilder(index).build());
+        }
+    }
+
     private JsonObject createSortObject(Sort sort) {
         return Json.createObjectBuilder().add(sort.getName(), sort.getType().name().toLowerCase(Locale.US)).build();
     }
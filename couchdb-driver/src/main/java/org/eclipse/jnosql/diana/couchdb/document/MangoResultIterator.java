@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.couchdb.document;
+
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the documents of a _find response straight from the HTTP {@link InputStream}, one element of the
+ * docs array at a time, so the whole result set is never held in memory. The source is closed either when the
+ * iteration reaches the end of the response or when the stream returned by {@link MangoResultIterator#stream()}
+ * is closed.
+ */
+final class MangoResultIterator implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private final JsonParser parser;
+
+    private final AutoCloseable source;
+
+    private final Consumer<String> bookmark;
+
+    private boolean documents;
+
+    private boolean finished;
+
+    private Map<String, Object> next;
+
+    MangoResultIterator(InputStream inputStream, AutoCloseable source, Consumer<String> bookmark) {
+        this.parser = Json.createParser(inputStream);
+        this.source = source;
+        this.bookmark = bookmark;
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+            close();
+            throw new CouchDBHttpClientException("The _find response is not a JSON object");
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        next = read();
+        if (next == null) {
+            close();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more documents at the _find response");
+        }
+        Map<String, Object> document = next;
+        next = null;
+        return document;
+    }
+
+    Stream<Map<String, Object>> stream() {
+        Spliterator<Map<String, Object>> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        try {
+            parser.close();
+            source.close();
+        } catch (Exception ex) {
+            throw new CouchDBHttpClientException("An error when try to close the _find response", ex);
+        }
+    }
+
+    private Map<String, Object> read() {
+        while (parser.hasNext()) {
+            JsonParser.Event event = parser.next();
+            if (documents) {
+                if (event == JsonParser.Event.START_OBJECT) {
+                    return toMap(parser.getObject());
+                }
+                documents = event != JsonParser.Event.END_ARRAY;
+                continue;
+            }
+            if (event == JsonParser.Event.END_OBJECT) {
+                return null;
+            }
+            String key = parser.getString();
+            event = parser.next();
+            if (CouchDBConstant.DOCS_RESPONSE.equals(key) && event == JsonParser.Event.START_ARRAY) {
+                documents = true;
+            } else if (CouchDBConstant.BOOKMARK.equals(key) && event == JsonParser.Event.VALUE_STRING) {
+                bookmark.accept(parser.getString());
+            } else if (event == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (event == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, Object> toMap(JsonObject json) {
+        Map<String, Object> map = new HashMap<>();
+        json.forEach((k, v) -> map.put(k, toJava(v)));
+        return map;
+    }
+
+    private static Object toJava(JsonValue value) {
+        switch (value.getValueType()) {
+            case OBJECT:
+                return toMap(value.asJsonObject());
+            case ARRAY:
+                JsonArray array = value.asJsonArray();
+                List<Object> list = new ArrayList<>(array.size());
+                array.forEach(v -> list.add(toJava(v)));
+                return list;
+            case STRING:
+                return JsonString.class.cast(value).getString();
+            case NUMBER:
+                return JsonNumber.class.cast(value).bigDecimalValue();
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            default:
+                return null;
+        }
+    }
+
+}
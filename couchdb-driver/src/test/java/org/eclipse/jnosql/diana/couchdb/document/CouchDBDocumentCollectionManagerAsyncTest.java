@@ -167,6 +167,15 @@ class CouchDBDocumentCollectionManagerAsyncTest {
 
 
 
+    @Test
+    public void shouldCountDocumentCollection() {
+        entityManager.insert(getEntity());
+        AtomicReference<Long> reference = new AtomicReference<>();
+        entityManagerAsync.count(COLLECTION_NAME, reference::set);
+        await().until(() -> reference.get(), notNullValue());
+        assertTrue(reference.get() > 0);
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
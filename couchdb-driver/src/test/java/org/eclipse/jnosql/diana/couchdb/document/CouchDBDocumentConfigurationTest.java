@@ -16,6 +16,7 @@
  */
 package org.eclipse.jnosql.diana.couchdb.document;
 
+import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import jakarta.nosql.document.DocumentConfiguration;
 import jakarta.nosql.document.DocumentConfigurationAsync;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CouchDBDocumentConfigurationTest {
 
@@ -40,6 +42,22 @@ class CouchDBDocumentConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReturnErrorWhenBulkSizeIsNotPositive() {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        Settings settings = Settings.builder().put(CouchDBConfigurations.BULK_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenAsyncPoolIsNotPositive() {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        Settings threads = Settings.builder().put(CouchDBConfigurations.ASYNC_THREADS.get(), "0").build();
+        Settings queue = Settings.builder().put(CouchDBConfigurations.ASYNC_QUEUE_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(threads));
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(queue));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         CouchDBDocumentConfiguration configuration = DocumentConfiguration.getConfiguration();
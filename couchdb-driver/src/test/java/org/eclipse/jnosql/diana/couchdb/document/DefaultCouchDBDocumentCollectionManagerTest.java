@@ -28,7 +28,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
 import static jakarta.nosql.document.DocumentQuery.select;
@@ -84,6 +87,48 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         assertEquals(newField, updated.find("newField").get());
     }
 
+    @Test
+    public void shouldInsertIterable() {
+        List<DocumentEntity> entities = getEntities(3);
+        List<DocumentEntity> inserted = new ArrayList<>();
+        entityManager.insert(entities).forEach(inserted::add);
+        assertEquals(3, inserted.size());
+        assertTrue(inserted.stream().allMatch(e -> e.find(CouchDBConstant.ID).isPresent()));
+        assertTrue(inserted.stream().allMatch(e -> e.find(CouchDBConstant.REV).isPresent()));
+    }
+
+    @Test
+    public void shouldUpdateIterable() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        entityManager.insert(getEntities(3)).forEach(entities::add);
+        entities.forEach(e -> e.remove(CouchDBConstant.REV));
+        entities.forEach(e -> e.add(Documents.of("newField", "10")));
+        entityManager.update(entities);
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        assertEquals(3, entityManager.select(query).count());
+    }
+
+    @Test
+    public void shouldUpdateWithRevision() {
+        DocumentEntity entity = getEntity();
+        entity.remove(CouchDBConstant.ID);
+        entityManager.insert(entity);
+        Document revision = entity.find(CouchDBConstant.REV).get();
+        entity.add(Documents.of("newField", "10"));
+        DocumentEntity updated = entityManager.update(entity);
+        assertNotEquals(revision, updated.find(CouchDBConstant.REV).get());
+    }
+
+    @Test
+    public void shouldRemoveIterable() {
+        entityManager.insert(getEntities(5));
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        assertEquals(0, entityManager.select(query).count());
+    }
+
     @Test
     public void shouldReturnErrorOnUpdate() {
         assertThrows(NullPointerException.class, () -> entityManager.update((DocumentEntity) null));
@@ -114,6 +159,17 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         assertEquals(entity, documentFound);
     }
 
+    @Test
+    public void shouldSelectLazily() {
+        entityManager.insert(getEntities(10));
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        try (Stream<DocumentEntity> entities = entityManager.stream(query)) {
+            assertEquals(2, entities.limit(2).count());
+        }
+        assertEquals(10, entityManager.stream(query).count());
+        assertEquals(10, entityManager.select(query).count());
+    }
+
     @Test
     public void shouldSelectEmptyResult() {
         DocumentQuery query = select().from(COLLECTION_NAME).where("no_field").eq("not_found").build();
@@ -144,6 +200,12 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         assertTrue(count > 0);
     }
 
+    @Test
+    public void shouldCountDocumentCollection() {
+        entityManager.insert(getEntities(5));
+        assertEquals(5, entityManager.count(COLLECTION_NAME));
+    }
+
     @Test
     public void shouldSelectWithCouchDBDocumentQuery() {
 
@@ -172,6 +234,66 @@ class DefaultCouchDBDocumentCollectionManagerTest {
 
     }
 
+    @Test
+    public void shouldPaginate() {
+        entityManager.insert(getEntities(10));
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        try (Stream<DocumentEntity> entities = entityManager.paginate(query, 3)) {
+            assertEquals(10, entities.count());
+        }
+    }
+
+    @Test
+    public void shouldPaginateWithLimit() {
+        entityManager.insert(getEntities(10));
+        DocumentQuery query = select().from(COLLECTION_NAME).limit(5).build();
+        try (Stream<DocumentEntity> entities = entityManager.paginate(query, 2)) {
+            assertEquals(5, entities.count());
+        }
+    }
+
+    @Test
+    public void shouldPaginateReadAhead() {
+        entityManager.insert(getEntities(10));
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (Stream<DocumentEntity> entities = entityManager.paginate(query, 3, executor)) {
+            assertEquals(10, entities.map(e -> e.find(CouchDBConstant.ID).get().get())
+                    .distinct().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorOnPaginate() {
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        assertThrows(NullPointerException.class, () -> entityManager.paginate(null, 3));
+        assertThrows(IllegalArgumentException.class, () -> entityManager.paginate(query, 0));
+        assertThrows(NullPointerException.class, () -> entityManager.paginate(query, 3, null));
+    }
+
+    @Test
+    public void shouldCreateIndex() {
+        CouchDBIndex index = entityManager.createIndex(CouchDBIndex.of("city-index", "city"));
+        assertTrue(index.getDesignDocument().isPresent());
+        assertTrue(entityManager.getIndexes().stream().anyMatch(i -> i.getName().equals("city-index")));
+
+        entityManager.deleteIndex(index.getDesignDocument().get(), index.getName());
+        assertFalse(entityManager.getIndexes().stream().anyMatch(i -> i.getName().equals("city-index")));
+    }
+
+    @Test
+    public void shouldExplain() {
+        CouchDBIndex index = entityManager.createIndex(CouchDBIndex.of("name-index", "name"));
+        DocumentQuery query = select().from(COLLECTION_NAME).where("name").eq("Poliana").build();
+        assertEquals(index.getName(), entityManager.explain(query).getName());
+
+        DocumentQuery fullScan = select().from(COLLECTION_NAME).where("no_index").eq("value").build();
+        assertTrue(entityManager.explain(fullScan).isSpecial());
+        entityManager.deleteIndex(index.getDesignDocument().get(), index.getName());
+    }
+
     @Test
     public void shouldConvertFromListSubdocumentList() {
         DocumentEntity entity = createSubdocumentList();
@@ -211,6 +333,17 @@ class DefaultCouchDBDocumentCollectionManagerTest {
         return entity;
     }
 
+    private List<DocumentEntity> getEntities(int size) {
+        List<DocumentEntity> entities = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            DocumentEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     private DocumentEntity getEntity() {
         DocumentEntity entity = DocumentEntity.of(COLLECTION_NAME);
         Map<String, Object> map = new HashMap<>();
@@ -146,5 +146,13 @@ class MangoQueryConverterTest {
         assertEquals(expected, jsonObject);
     }
 
+    @ParameterizedTest
+    @JsonSource("select_all_use_index.json")
+    public void shouldReturnSelectFromAllUseIndex(JsonObject expected) {
+        DocumentQuery query = select().from("person").build();
+        JsonObject jsonObject = converter.apply(CouchDBDocumentQuery.of(query).useIndex("_design/person", "name-index"));
+        assertEquals(expected, jsonObject);
+    }
+
 
 }
\ No newline at end of file
@@ -19,14 +19,11 @@ import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnEntity;
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.apache.hadoop.hbase.CellUtil.cloneFamily;
-import static org.apache.hadoop.hbase.CellUtil.cloneQualifier;
-import static org.apache.hadoop.hbase.CellUtil.cloneRow;
-import static org.apache.hadoop.hbase.CellUtil.cloneValue;
 import static org.eclipse.jnosql.diana.hbase.column.HBaseUtils.getKey;
 
 class EntityUnit {
@@ -37,17 +34,19 @@ class EntityUnit {
 
     private final List<Column> columns = new ArrayList<>();
 
-    EntityUnit(Result result) {
+    EntityUnit(Result result, ValueCodec codec) {
 
         for (Cell cell : result.rawCells()) {
 
-            String name = new String(cloneQualifier(cell));
-            String value = new String(cloneValue(cell));
+            String name = Bytes.toString(cell.getQualifierArray(), cell.getQualifierOffset(),
+                    cell.getQualifierLength());
+            Object value = codec.decode(name, cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
             if (this.rowKey == null) {
-                this.rowKey = new String(cloneRow(cell));
+                this.rowKey = codec.decodeKey(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength());
             }
             if (this.columnFamily == null) {
-                this.columnFamily = new String(cloneFamily(cell));
+                this.columnFamily = Bytes.toString(cell.getFamilyArray(), cell.getFamilyOffset(),
+                        cell.getFamilyLength());
             }
             columns.add(Column.of(name, value));
         }
@@ -19,10 +19,15 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.column.ColumnConfiguration;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.HBaseConfiguration;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.requireNonNull;
@@ -30,6 +35,10 @@ import static java.util.Objects.requireNonNull;
 /**
  * Configuration to HBase that returns {@link HBaseColumnFamilyManagerFactory}
  * <p>hbase.family.n: as prefix to add family, eg: hbase,family.1=column-family</p>
+ * <p>hbase.write.buffer.size: the write buffer size in bytes, when it is defined the managers write through a
+ * {@link BufferedMutator}</p>
+ * <p>hbase.write.flush.period: the period in milliseconds to flush the write buffer</p>
+ * <p>hbase.value.encoding: the {@link HBaseValueEncoding} name, the default is STRING</p>
  */
 public class HBaseColumnConfiguration implements ColumnConfiguration {
 
@@ -37,6 +46,12 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
     private final List<String> families = new ArrayList<>();
 
+    private HBaseWriteBuffer writeBuffer;
+
+    private HBaseValueEncoding encoding = HBaseValueEncoding.STRING;
+
+    private final Map<String, Class<?>> typeHints = new HashMap<>();
+
     /**
      * creates an {@link HBaseColumnConfiguration} instance with {@link HBaseConfiguration#create()}
      */
@@ -76,10 +91,49 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
         this.families.add(requireNonNull(family, "family is required"));
     }
 
+    /**
+     * Makes the managers write through a {@link BufferedMutator}: insert, update and delete are buffered at
+     * the client and sent in batches when the buffer is full, at each flush period,
+     * on {@link HBaseColumnFamilyManager#flush()} and on {@link HBaseColumnFamilyManager#close()}.
+     * A query only sees the mutations already flushed.
+     *
+     * @param size        the write buffer size in bytes, zero or negative to use the HBase default
+     * @param flushPeriod the period to flush the buffer, null or zero to flush only when the buffer is full
+     * @param listener    the listener to mutations that failed, null to throw them on the next write or flush
+     */
+    public void setWriteBuffer(long size, Duration flushPeriod, BufferedMutator.ExceptionListener listener) {
+        this.writeBuffer = new HBaseWriteBuffer(size, flushPeriod, listener);
+    }
+
+    /**
+     * Defines how the column values are written, the default is {@link HBaseValueEncoding#STRING}.
+     * The encoding must not change for a table that already has data: the cells are not rewritten.
+     *
+     * @param encoding the encoding
+     * @throws NullPointerException when encoding is null
+     */
+    public void setValueEncoding(HBaseValueEncoding encoding) {
+        this.encoding = requireNonNull(encoding, "encoding is required");
+    }
+
+    /**
+     * Defines the type of a column, its values are converted to the type before they are written and after they
+     * are read, e.g. a long column is read back as long even with {@link HBaseValueEncoding#STRING}.
+     *
+     * @param column the column name
+     * @param type   the column type
+     * @throws NullPointerException when there is null parameter
+     */
+    public void addTypeHint(String column, Class<?> type) {
+        requireNonNull(column, "column is required");
+        requireNonNull(type, "type is required");
+        this.typeHints.put(column, type);
+    }
 
     @Override
     public HBaseColumnFamilyManagerFactory get() {
-        return new HBaseColumnFamilyManagerFactory(configuration, families);
+        return new HBaseColumnFamilyManagerFactory(configuration, families, writeBuffer,
+                new ValueCodec(encoding, typeHints));
     }
 
     @Override
@@ -88,7 +142,17 @@ public class HBaseColumnConfiguration implements ColumnConfiguration {
 
         List<String> families = settings.prefix(HbaseConfigurations.FAMILY.get())
                 .stream().map(Object::toString).collect(Collectors.toList());
-        return new HBaseColumnFamilyManagerFactory(configuration, families);
+        HBaseWriteBuffer buffer = writeBuffer;
+        Optional<Object> size = settings.get(HbaseConfigurations.WRITE_BUFFER_SIZE.get());
+        if (size.isPresent()) {
+            Duration flushPeriod = settings.get(HbaseConfigurations.WRITE_FLUSH_PERIOD.get())
+                    .map(Object::toString).map(Long::valueOf).map(Duration::ofMillis).orElse(null);
+            buffer = new HBaseWriteBuffer(Long.valueOf(size.get().toString()), flushPeriod, null);
+        }
+        HBaseValueEncoding valueEncoding = settings.get(HbaseConfigurations.VALUE_ENCODING.get())
+                .map(Object::toString).map(String::toUpperCase).map(HBaseValueEncoding::valueOf).orElse(encoding);
+        return new HBaseColumnFamilyManagerFactory(configuration, families, buffer,
+                new ValueCodec(valueEncoding, typeHints));
     }
 
     @Override
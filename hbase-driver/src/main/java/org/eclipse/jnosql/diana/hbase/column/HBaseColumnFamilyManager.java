@@ -17,29 +17,38 @@ package org.eclipse.jnosql.diana.hbase.column;
 
 import jakarta.nosql.Condition;
 import jakarta.nosql.TypeReference;
-import jakarta.nosql.Value;
-import jakarta.nosql.ValueWriter;
 import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnCondition;
 import jakarta.nosql.column.ColumnDeleteQuery;
 import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnQuery;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Connection;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
 import org.apache.hadoop.hbase.util.Bytes;
-import org.eclipse.jnosql.diana.writer.ValueWriterDecorator;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -52,43 +61,61 @@ import static org.eclipse.jnosql.diana.hbase.column.HBaseUtils.KEY_COLUMN;
 
 /**
  * The Hbase implementation to {@link ColumnFamilyManager}.
+ * The queries by row key run as multi get, the other ones as a scan with filters, see
+ * {@link HBaseColumnFamilyManager#select(ColumnQuery, int)}.
+ * The values are written following the {@link HBaseValueEncoding} of the {@link HBaseColumnConfiguration}.
+ * The count and the column aggregations scan the regions in parallel, see
+ * {@link HBaseColumnFamilyManager#count(String)}.
  * It does not support TTL methods
  * <p>{@link HBaseColumnFamilyManager#insert(ColumnEntity, Duration)}</p>
  */
 public class HBaseColumnFamilyManager implements ColumnFamilyManager {
 
+    private static final Logger LOGGER = Logger.getLogger(HBaseColumnFamilyManager.class.getName());
+
     private static final String KEY_REQUIRED_ERROR = "\"To save an entity is necessary to have an row, a Column that has a blank name. Documents.of(\\\"\\\", keyValue);\"";
 
     private final Connection connection;
     private final Table table;
-    private final ValueWriter writerField = ValueWriterDecorator.getInstance();
+    private final BufferedMutator mutator;
+    private final ScheduledExecutorService flushScheduler;
+    private final ValueCodec codec;
+    private final Executor aggregationExecutor;
+
 
+    HBaseColumnFamilyManager(Connection connection, Table table, ValueCodec codec, Executor aggregationExecutor) {
+        this.connection = connection;
+        this.table = table;
+        this.codec = codec;
+        this.aggregationExecutor = aggregationExecutor;
+        this.mutator = null;
+        this.flushScheduler = null;
+    }
 
-    HBaseColumnFamilyManager(Connection connection, Table table) {
+    HBaseColumnFamilyManager(Connection connection, Table table, ValueCodec codec, Executor aggregationExecutor,
+                             BufferedMutator mutator, Duration flushPeriod) {
         this.connection = connection;
         this.table = table;
+        this.codec = codec;
+        this.aggregationExecutor = aggregationExecutor;
+        this.mutator = mutator;
+        if (Objects.nonNull(flushPeriod) && !flushPeriod.isZero() && !flushPeriod.isNegative()) {
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "hbase-flush-" + table.getName().getNameAsString());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = flushPeriod.toMillis();
+            flushScheduler.scheduleAtFixedRate(this::periodicFlush, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushScheduler = null;
+        }
     }
 
     @Override
     public ColumnEntity insert(ColumnEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String family = entity.getName();
-        List<Column> columns = entity.getColumns();
-        if (columns.isEmpty()) {
-            return entity;
-        }
-        Column columnID = entity.find(KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
-
-        Put put = new Put(Bytes.toBytes(valueToString(columnID.getValue())));
-        columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
-                put.addColumn(Bytes.toBytes(family),
-                        Bytes.toBytes(column.getName()),
-                        Bytes.toBytes(valueToString(column.getValue()))));
-        try {
-            table.put(put);
-        } catch (IOException e) {
-            throw new HBaseException("An error happened when try to save an entity", e);
-        }
+        toPut(entity).ifPresent(put -> write(Collections.singletonList(put)));
         return entity;
     }
 
@@ -99,10 +126,7 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
 
     @Override
     public Iterable<ColumnEntity> update(Iterable<ColumnEntity> entities) {
-        Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        return insert(entities);
     }
 
     @Override
@@ -113,9 +137,16 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
     @Override
     public Iterable<ColumnEntity> insert(Iterable<ColumnEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        List<ColumnEntity> result = new ArrayList<>();
+        List<Put> puts = new ArrayList<>();
+        for (ColumnEntity entity : entities) {
+            toPut(entity).ifPresent(puts::add);
+            result.add(entity);
+        }
+        if (!puts.isEmpty()) {
+            write(puts);
+        }
+        return result;
     }
 
     @Override
@@ -134,66 +165,271 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
         ColumnCondition condition = query.getCondition()
                 .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
         checkedCondition(condition);
-        List<String> values = new ArrayList<>();
+        List<byte[]> values = new ArrayList<>();
 
         convert(condition, values);
         List<Delete> deletes = values
                 .stream()
-                .map(String::getBytes)
                 .map(Delete::new)
                 .collect(toList());
         try {
-            table.delete(deletes);
+            if (Objects.isNull(mutator)) {
+                table.delete(deletes);
+            } else {
+                mutator.mutate(deletes);
+            }
         } catch (IOException e) {
             throw new HBaseException("An error when try to delete columns", e);
         }
 
     }
 
+    /**
+     * Sends the buffered mutations to HBase. It does nothing when the manager does not write through
+     * a {@link BufferedMutator}.
+     *
+     * @throws HBaseException when a mutation fails
+     */
+    public void flush() {
+        if (Objects.isNull(mutator)) {
+            return;
+        }
+        try {
+            mutator.flush();
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to flush the buffered mutations", e);
+        }
+    }
+
 
     @Override
     public Stream<ColumnEntity> select(ColumnQuery query) {
+        return select(query, 0);
+    }
+
+    /**
+     * Finds {@link ColumnEntity} from query. A query that just looks up row keys with equals, in and or runs as
+     * a multi get, any other query runs as a scan: the row key conditions define the scanned range and the
+     * remaining conditions are filtered at the region servers. The scan is read lazily, so the stream must be
+     * closed when it is not fully consumed.
+     * The greater, lesser and between conditions compare the stored bytes: the row key, and every column with the
+     * {@link HBaseValueEncoding#STRING} encoding, is compared at the text order, e.g. "26" is lesser than "9", so
+     * those conditions require a {@link String} value; use {@link HBaseValueEncoding#TYPED} to numeric ranges.
+     *
+     * @param query   the query
+     * @param caching the number of rows fetched per scanner call, zero or negative to use
+     *                hbase.client.scanner.caching
+     * @return entities found by query
+     * @throws NullPointerException          when query is null
+     * @throws UnsupportedOperationException when the query sorts by a column that is not the row key or when a
+     *                                       range condition compared at the text order has a value that is not
+     *                                       a {@link String}
+     */
+    public Stream<ColumnEntity> select(ColumnQuery query, int caching) {
         Objects.requireNonNull(query, "query is required");
-        ColumnCondition condition = query.getCondition()
-                .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
-        checkedCondition(condition);
-        return Stream.of(findById(condition))
-                .map(EntityUnit::new).filter(EntityUnit::isNotEmpty)
-                .map(EntityUnit::toEntity);
+        Optional<ColumnCondition> condition = query.getCondition();
+        if (condition.isPresent() && query.getSorts().isEmpty() && isKeyLookup(condition.get())) {
+            return Stream.of(findById(condition.get(), query))
+                    .map(r -> new EntityUnit(r, codec)).filter(EntityUnit::isNotEmpty)
+                    .map(EntityUnit::toEntity);
+        }
+        return scan(query, caching);
     }
 
+    /**
+     * Counts the rows that have the column family. The regions are scanned in parallel and each one returns just
+     * the first key of its rows, so no value is sent to the client.
+     *
+     * @param columnFamily the column family
+     * @return the number of rows
+     * @throws NullPointerException when columnFamily is null
+     */
     @Override
     public long count(String columnFamily) {
-        throw new UnsupportedOperationException("Hbase does not have support to count method");
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        return aggregation().count(columnFamily);
+    }
+
+    /**
+     * Sums the values of a column, the regions are scanned in parallel and each one returns just the column.
+     *
+     * @param columnFamily the column family
+     * @param column       the column, every value must be a number
+     * @return the sum, zero when there is no value
+     * @throws NullPointerException when there is null parameter
+     * @throws HBaseException       when a value is not a number
+     */
+    public BigDecimal sum(String columnFamily, String column) {
+        return statistics(columnFamily, column).getSum();
+    }
+
+    /**
+     * Finds the lowest value of a column, the regions are scanned in parallel and each one returns just the column.
+     *
+     * @param columnFamily the column family
+     * @param column       the column, every value must be a number
+     * @return the lowest value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when there is null parameter
+     * @throws HBaseException       when a value is not a number
+     */
+    public Optional<BigDecimal> min(String columnFamily, String column) {
+        return Optional.ofNullable(statistics(columnFamily, column).getMin());
+    }
+
+    /**
+     * Finds the highest value of a column, the regions are scanned in parallel and each one returns just the column.
+     *
+     * @param columnFamily the column family
+     * @param column       the column, every value must be a number
+     * @return the highest value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when there is null parameter
+     * @throws HBaseException       when a value is not a number
+     */
+    public Optional<BigDecimal> max(String columnFamily, String column) {
+        return Optional.ofNullable(statistics(columnFamily, column).getMax());
     }
 
 
+    /**
+     * Closes the manager, the buffered mutations are flushed before the table is released. The connection is
+     * shared with the other managers of the {@link HBaseColumnFamilyManagerFactory}, so it stays open until the
+     * factory is closed.
+     *
+     * @throws HBaseException when the buffered mutations cannot be flushed
+     */
     @Override
     public void close() {
+        IOException flushError = null;
+        if (Objects.nonNull(flushScheduler)) {
+            flushScheduler.shutdown();
+        }
+        if (Objects.nonNull(mutator)) {
+            try {
+                mutator.close();
+            } catch (IOException e) {
+                flushError = e;
+            }
+        }
         try {
-            connection.close();
             table.close();
         } catch (IOException e) {
-            e.printStackTrace();
+            LOGGER.log(Level.WARNING, "An error when try to close the table", e);
+        }
+        if (Objects.nonNull(flushError)) {
+            throw new HBaseException("An error when try to flush the buffered mutations", flushError);
         }
     }
 
-    private String valueToString(Value value) {
-        Object object = value.get();
-        if (writerField.isCompatible(object.getClass())) {
-            return writerField.write(object).toString();
-        } else {
-            return object.toString();
+    private RegionAggregation.Statistics statistics(String columnFamily, String column) {
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        Objects.requireNonNull(column, "column is required");
+        return aggregation().statistics(columnFamily, column);
+    }
+
+    private RegionAggregation aggregation() {
+        return new RegionAggregation(connection, table.getName(), codec, aggregationExecutor);
+    }
+
+    private Optional<Put> toPut(ColumnEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        byte[] family = Bytes.toBytes(entity.getName());
+        List<Column> columns = entity.getColumns();
+        if (columns.isEmpty()) {
+            return Optional.empty();
+        }
+        Column columnID = entity.find(KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
+
+        Put put = new Put(codec.encodeKey(columnID.getValue()));
+        columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
+                put.addColumn(family,
+                        Bytes.toBytes(column.getName()),
+                        codec.encode(column.getName(), column.getValue())));
+        return Optional.of(put);
+    }
+
+    private void write(List<Put> puts) {
+        try {
+            if (Objects.isNull(mutator)) {
+                table.put(puts);
+            } else {
+                mutator.mutate(puts);
+            }
+        } catch (IOException e) {
+            throw new HBaseException("An error happened when try to save an entity", e);
         }
     }
 
-    private Result[] findById(ColumnCondition condition) {
-        List<String> values = new ArrayList<>();
+    private void periodicFlush() {
+        try {
+            mutator.flush();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "An error when try to flush the buffered mutations", e);
+        }
+    }
+
+    private Stream<ColumnEntity> scan(ColumnQuery query, int caching) {
+        Scan scan = new ScanConverter(query.getColumnFamily(), codec).toScan(query);
+        long limit = query.getLimit();
+        if (caching > 0) {
+            scan.setCaching(caching);
+        }
+        if (limit > 0 && limit + query.getSkip() < Integer.MAX_VALUE) {
+            int rows = (int) (limit + query.getSkip());
+            scan.setCaching(scan.getCaching() > 0 ? Math.min(scan.getCaching(), rows) : rows);
+        }
+        ResultScanner scanner;
+        try {
+            scanner = table.getScanner(scan);
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to scan the table", e);
+        }
+        Stream<ColumnEntity> entities = StreamSupport.stream(scanner.spliterator(), false)
+                .onClose(scanner::close)
+                .map(r -> new EntityUnit(r, codec)).filter(EntityUnit::isNotEmpty)
+                .map(EntityUnit::toEntity);
+
+        List<String> columns = query.getColumns();
+        if (columns.stream().anyMatch(c -> !KEY_COLUMN.equals(c))) {
+            entities = entities.map(e -> project(e, columns));
+        }
+        if (query.getSkip() > 0) {
+            entities = entities.skip(query.getSkip());
+        }
+        if (limit > 0) {
+            entities = entities.limit(limit);
+        }
+        return entities;
+    }
+
+    private ColumnEntity project(ColumnEntity entity, List<String> columns) {
+        entity.getColumnNames().stream()
+                .filter(n -> !KEY_COLUMN.equals(n) && !columns.contains(n))
+                .collect(toList())
+                .forEach(entity::remove);
+        return entity;
+    }
+
+    private boolean isKeyLookup(ColumnCondition condition) {
+        if (OR.equals(condition.getCondition())) {
+            return condition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
+            }).stream().allMatch(this::isKeyLookup);
+        }
+        return KEY_COLUMN.equals(condition.getColumn().getName())
+                && (EQUALS.equals(condition.getCondition()) || IN.equals(condition.getCondition()));
+    }
+
+    private Result[] findById(ColumnCondition condition, ColumnQuery query) {
+        List<byte[]> values = new ArrayList<>();
         convert(condition, values);
 
-        List<Get> gets = values.stream()
-                .map(String::getBytes)
-                .map(Get::new).collect(toList());
+        byte[] family = Bytes.toBytes(query.getColumnFamily());
+        List<String> columns = query.getColumns().stream().filter(c -> !KEY_COLUMN.equals(c)).collect(toList());
+        List<Get> gets = new ArrayList<>();
+        for (byte[] value : values) {
+            Get get = new Get(value);
+            columns.forEach(c -> get.addColumn(family, Bytes.toBytes(c)));
+            gets.add(get);
+        }
         try {
             return table.get(gets);
         } catch (IOException e) {
@@ -202,17 +438,17 @@ public class HBaseColumnFamilyManager implements ColumnFamilyManager {
     }
 
 
-    private void convert(ColumnCondition columnCondition, List<String> values) {
+    private void convert(ColumnCondition columnCondition, List<byte[]> values) {
         Condition condition = columnCondition.getCondition();
 
         if (OR.equals(condition)) {
             columnCondition.getColumn().get(new TypeReference<List<ColumnCondition>>() {
             }).forEach(c -> convert(c, values));
         } else if (IN.equals(condition)) {
-            values.addAll(columnCondition.getColumn().get(new TypeReference<List<String>>() {
-            }));
+            columnCondition.getColumn().get(new TypeReference<List<String>>() {
+            }).stream().map(Bytes::toBytes).forEach(values::add);
         } else if (EQUALS.equals(condition)) {
-            values.add(valueToString(columnCondition.getColumn().getValue()));
+            values.add(codec.encodeKey(columnCondition.getColumn().getValue()));
         }
 
 
@@ -28,43 +28,122 @@ import org.apache.hadoop.hbase.client.Table;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+/**
+ * The HBase implementation of {@link ColumnFamilyManagerFactory}. The factory holds one {@link Connection} that is
+ * shared by every manager it returns, it is created at the first {@link HBaseColumnFamilyManagerFactory#get(String)}
+ * and closed at {@link HBaseColumnFamilyManagerFactory#close()}, as well as the thread pool that scans the regions
+ * of the aggregations. The table schema is checked once per table, so getting a manager after the first time just
+ * creates a lightweight {@link Table}.
+ */
 public class HBaseColumnFamilyManagerFactory implements ColumnFamilyManagerFactory {
 
     private final Configuration configuration;
 
     private final List<String> families;
 
-    HBaseColumnFamilyManagerFactory(Configuration configuration, List<String> families) {
+    private final HBaseWriteBuffer writeBuffer;
+
+    private final ValueCodec codec;
+
+    private final Map<String, TableName> tables = new ConcurrentHashMap<>();
+
+    private final ExecutorService aggregationExecutor;
+
+    private volatile Connection connection;
+
+    private volatile boolean closed;
+
+    HBaseColumnFamilyManagerFactory(Configuration configuration, List<String> families, HBaseWriteBuffer writeBuffer,
+                                    ValueCodec codec) {
         this.configuration = configuration;
         this.families = families;
+        this.writeBuffer = writeBuffer;
+        this.codec = codec;
+        AtomicInteger threads = new AtomicInteger();
+        this.aggregationExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r -> {
+            Thread thread = new Thread(r, "hbase-aggregation-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    /**
+     * Returns a manager to the table, the table is created or has the missing families added at the first call.
+     * The manager must be closed, it releases the table but not the shared connection.
+     *
+     * @param database the table name
+     * @return a manager instance
+     * @throws HBaseException        when the connection or the table cannot be created
+     * @throws IllegalStateException when the factory is closed
+     */
     @Override
     public HBaseColumnFamilyManager get(String database) {
+        Objects.requireNonNull(database, "database is required");
+        Connection connection = getConnection();
         try {
-            Connection connection = ConnectionFactory.createConnection(configuration);
-            Admin admin = connection.getAdmin();
-            TableName tableName = TableName.valueOf(database);
+            TableName tableName = tables.computeIfAbsent(database, this::prepareTable);
+            Table table = connection.getTable(tableName);
+            if (Objects.isNull(writeBuffer)) {
+                return new HBaseColumnFamilyManager(connection, table, codec, aggregationExecutor);
+            }
+            return new HBaseColumnFamilyManager(connection, table, codec, aggregationExecutor,
+                    writeBuffer.create(connection, tableName), writeBuffer.getFlushPeriod());
+        } catch (IOException e) {
+            throw new HBaseException("A error happened when try to create ColumnFamilyManager", e);
+        }
+    }
+
+    private Connection getConnection() {
+        Connection current = connection;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The HBaseColumnFamilyManagerFactory is closed");
+            }
+            if (Objects.isNull(connection)) {
+                try {
+                    connection = ConnectionFactory.createConnection(configuration);
+                } catch (IOException e) {
+                    throw new HBaseException("A error happened when try to connect to HBase", e);
+                }
+            }
+            return connection;
+        }
+    }
+
+    private TableName prepareTable(String database) {
+        TableName tableName = TableName.valueOf(database);
+        try (Admin admin = getConnection().getAdmin()) {
             if (admin.tableExists(tableName)) {
                 existTable(admin, tableName);
             } else {
                 createTable(admin, tableName);
             }
-            Table table = connection.getTable(tableName);
-            return new HBaseColumnFamilyManager(connection, table);
         } catch (IOException e) {
-            throw new HBaseException("A error happened when try to create ColumnFamilyManager", e);
+            throw new HBaseException("A error happened when try to prepare the table " + database, e);
         }
+        return tableName;
     }
 
-
     private void existTable(Admin admin, TableName tableName) throws IOException {
         HTableDescriptor tableDescriptor = admin.getTableDescriptor(tableName);
         HColumnDescriptor[] columnFamilies = tableDescriptor.getColumnFamilies();
-        List<String> familiesExist = Arrays.stream(columnFamilies).map(HColumnDescriptor::getName).map(String::new).collect(Collectors.toList());
-        families.stream().filter(s -> !familiesExist.contains(s)).map(HColumnDescriptor::new).forEach(tableDescriptor::addFamily);
+        List<String> familiesExist = Arrays.stream(columnFamilies).map(HColumnDescriptor::getNameAsString).collect(Collectors.toList());
+        List<String> missing = families.stream().filter(s -> !familiesExist.contains(s)).collect(Collectors.toList());
+        if (missing.isEmpty()) {
+            return;
+        }
+        missing.stream().map(HColumnDescriptor::new).forEach(tableDescriptor::addFamily);
         admin.modifyTable(tableName, tableDescriptor);
     }
 
@@ -74,10 +153,27 @@ public class HBaseColumnFamilyManagerFactory implements ColumnFamilyManagerFacto
         admin.createTable(desc);
     }
 
+    /**
+     * Closes the shared connection and the aggregation thread pool, the managers returned by this factory cannot
+     * be used anymore.
+     *
+     * @throws HBaseException when the connection cannot be closed
+     */
     @Override
-    public void close() {
-
+    public synchronized void close() {
+        closed = true;
+        tables.clear();
+        aggregationExecutor.shutdownNow();
+        if (Objects.isNull(connection)) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (IOException e) {
+            throw new HBaseException("A error happened when try to close the connection", e);
+        } finally {
+            connection = null;
+        }
     }
 
-
 }
@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.hbase.column;
+
+/**
+ * Defines how the column values are written to the cells, the row key is always written as an UTF-8 text.
+ */
+public enum HBaseValueEncoding {
+
+    /**
+     * Every value is written as UTF-8 text and read back as {@link String}, unless the column has a type hint.
+     * A byte array is written as it is.
+     */
+    STRING,
+    /**
+     * Long, integer, short, byte, double, float, boolean and byte array values are written in binary with a one
+     * byte type tag, so they are read back as long, double, boolean and byte array, the remaining ones are written
+     * as UTF-8 text. The numbers are written in a sortable form, so a range filter works on the stored bytes.
+     * A cell without a known tag, e.g. written with {@link HBaseValueEncoding#STRING}, is read as text.
+     */
+    TYPED
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.hbase.column;
+
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
+import org.apache.hadoop.hbase.client.Connection;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * The settings of the {@link BufferedMutator} write path, when it is defined the managers buffer the mutations
+ * at the client and send them in batches.
+ */
+final class HBaseWriteBuffer {
+
+    private final long size;
+
+    private final Duration flushPeriod;
+
+    private final BufferedMutator.ExceptionListener listener;
+
+    HBaseWriteBuffer(long size, Duration flushPeriod, BufferedMutator.ExceptionListener listener) {
+        this.size = size;
+        this.flushPeriod = flushPeriod;
+        this.listener = listener;
+    }
+
+    Duration getFlushPeriod() {
+        return flushPeriod;
+    }
+
+    BufferedMutator create(Connection connection, TableName tableName) throws IOException {
+        BufferedMutatorParams params = new BufferedMutatorParams(tableName);
+        if (size > 0) {
+            params.writeBufferSize(size);
+        }
+        if (Objects.nonNull(listener)) {
+            params.listener(listener);
+        }
+        return connection.getBufferedMutator(params);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("HBaseWriteBuffer{");
+        sb.append("size=").append(size);
+        sb.append(", flushPeriod=").append(flushPeriod);
+        sb.append(", listener=").append(listener);
+        sb.append('}');
+        return sb.toString();
+    }
+}
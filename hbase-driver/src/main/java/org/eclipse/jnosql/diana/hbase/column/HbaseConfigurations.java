@@ -18,7 +18,10 @@ import java.util.function.Supplier;
 
 public enum  HbaseConfigurations implements Supplier<String> {
 
-    FAMILY("hbase.family");
+    FAMILY("hbase.family"),
+    WRITE_BUFFER_SIZE("hbase.write.buffer.size"),
+    WRITE_FLUSH_PERIOD("hbase.write.flush.period"),
+    VALUE_ENCODING("hbase.value.encoding");
 
     private final String configuration;
 
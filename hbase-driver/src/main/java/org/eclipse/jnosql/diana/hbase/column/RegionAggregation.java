@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.hbase.column;
+
+
+import org.apache.hadoop.hbase.Cell;
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.RegionLocator;
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
+import org.apache.hadoop.hbase.filter.KeyOnlyFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.apache.hadoop.hbase.util.Pair;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Runs the aggregations of a table as one scan per region, the regions are scanned in parallel on the executor
+ * shared by the factory and the partial results are merged at the client. The scans just bring the cells the
+ * aggregation needs: the count reads only the first key of each row and the column aggregations read only the
+ * column.
+ */
+final class RegionAggregation {
+
+    private final Connection connection;
+
+    private final TableName tableName;
+
+    private final ValueCodec codec;
+
+    private final Executor executor;
+
+    RegionAggregation(Connection connection, TableName tableName, ValueCodec codec, Executor executor) {
+        this.connection = connection;
+        this.tableName = tableName;
+        this.codec = codec;
+        this.executor = executor;
+    }
+
+    long count(String family) {
+        Scan scan = new Scan();
+        scan.addFamily(Bytes.toBytes(family));
+        scan.setFilter(new FilterList(FilterList.Operator.MUST_PASS_ALL, new FirstKeyOnlyFilter(),
+                new KeyOnlyFilter()));
+        return aggregate(scan, scanner -> {
+            long count = 0;
+            for (Result ignored : scanner) {
+                count++;
+            }
+            return count;
+        }, Long::sum);
+    }
+
+    Statistics statistics(String family, String column) {
+        byte[] familyBytes = Bytes.toBytes(family);
+        byte[] qualifier = Bytes.toBytes(column);
+        Scan scan = new Scan();
+        scan.addColumn(familyBytes, qualifier);
+        return aggregate(scan, scanner -> {
+            Statistics statistics = new Statistics();
+            for (Result result : scanner) {
+                Cell cell = result.getColumnLatestCell(familyBytes, qualifier);
+                if (Objects.nonNull(cell)) {
+                    statistics.add(toNumber(column, codec.decode(column, cell.getValueArray(),
+                            cell.getValueOffset(), cell.getValueLength())));
+                }
+            }
+            return statistics;
+        }, Statistics::merge);
+    }
+
+    private <T> T aggregate(Scan template, Function<ResultScanner, T> reader, BinaryOperator<T> combiner) {
+        List<Scan> scans = split(template);
+        try {
+            List<CompletableFuture<T>> futures = new ArrayList<>();
+            for (Scan scan : scans) {
+                futures.add(CompletableFuture.supplyAsync(() -> scan(scan, reader), executor));
+            }
+            T result = null;
+            for (CompletableFuture<T> future : futures) {
+                T partial = future.join();
+                result = Objects.isNull(result) ? partial : combiner.apply(result, partial);
+            }
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new HBaseException("An error when try to aggregate the table", e.getCause());
+        }
+    }
+
+    private <T> T scan(Scan scan, Function<ResultScanner, T> reader) {
+        try (Table table = connection.getTable(tableName);
+             ResultScanner scanner = table.getScanner(scan)) {
+            return reader.apply(scanner);
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to scan the region", e);
+        }
+    }
+
+    private List<Scan> split(Scan template) {
+        template.setCacheBlocks(false);
+        List<Scan> scans = new ArrayList<>();
+        try (RegionLocator locator = connection.getRegionLocator(tableName)) {
+            Pair<byte[][], byte[][]> keys = locator.getStartEndKeys();
+            for (int index = 0; index < keys.getFirst().length; index++) {
+                Scan scan = new Scan(template);
+                scan.withStartRow(keys.getFirst()[index]);
+                scan.withStopRow(keys.getSecond()[index]);
+                scans.add(scan);
+            }
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to find the table regions", e);
+        }
+        if (scans.isEmpty()) {
+            scans.add(template);
+        }
+        return scans;
+    }
+
+    private static BigDecimal toNumber(String column, Object value) {
+        try {
+            return new BigDecimal(value.toString().trim());
+        } catch (NumberFormatException e) {
+            throw new HBaseException("The column " + column + " has a value that is not a number: " + value, e);
+        }
+    }
+
+    /**
+     * The partial result of a column aggregation
+     */
+    static final class Statistics {
+
+        private long count;
+
+        private BigDecimal sum = BigDecimal.ZERO;
+
+        private BigDecimal min;
+
+        private BigDecimal max;
+
+        BigDecimal getSum() {
+            return sum;
+        }
+
+        BigDecimal getMin() {
+            return min;
+        }
+
+        BigDecimal getMax() {
+            return max;
+        }
+
+        private void add(BigDecimal value) {
+            count++;
+            sum = sum.add(value);
+            min = Objects.isNull(min) || value.compareTo(min) < 0 ? value : min;
+            max = Objects.isNull(max) || value.compareTo(max) > 0 ? value : max;
+        }
+
+        private Statistics merge(Statistics other) {
+            if (other.count > 0) {
+                count += other.count;
+                sum = sum.add(other.sum);
+                min = Objects.isNull(min) || other.min.compareTo(min) < 0 ? other.min : min;
+                max = Objects.isNull(max) || other.max.compareTo(max) > 0 ? other.max : max;
+            }
+            return this;
+        }
+    }
+}
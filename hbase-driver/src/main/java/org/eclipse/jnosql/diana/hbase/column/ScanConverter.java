@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.hbase.column;
+
+
+import jakarta.nosql.Condition;
+import jakarta.nosql.Sort;
+import jakarta.nosql.SortType;
+import jakarta.nosql.TypeReference;
+import jakarta.nosql.Value;
+import jakarta.nosql.column.Column;
+import jakarta.nosql.column.ColumnCondition;
+import jakarta.nosql.column.ColumnQuery;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.CompareFilter.CompareOp;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.PrefixFilter;
+import org.apache.hadoop.hbase.filter.RegexStringComparator;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import static org.eclipse.jnosql.diana.hbase.column.HBaseUtils.KEY_COLUMN;
+
+/**
+ * Converts a {@link ColumnQuery} to a {@link Scan}. The conditions on the row key at the top level become the
+ * start and stop rows, everything else is pushed down to the region servers as filters: {@link RowFilter} to the
+ * row key and {@link SingleColumnValueFilter} to the columns. The values are encoded with the same
+ * {@link ValueCodec} used to write them and compared as bytes, so in the same order they are stored.
+ * The row key, and every column with {@link HBaseValueEncoding#STRING}, is compared at the text order, so a range
+ * condition on them requires a {@link String} value.
+ */
+final class ScanConverter {
+
+    private final byte[] family;
+
+    private final ValueCodec codec;
+
+    private final Set<String> filterColumns = new TreeSet<>();
+
+    private byte[] startRow;
+
+    private boolean startInclusive = true;
+
+    private byte[] stopRow;
+
+    private boolean stopInclusive = false;
+
+    ScanConverter(String family, ValueCodec codec) {
+        this.family = Bytes.toBytes(family);
+        this.codec = codec;
+    }
+
+    Scan toScan(ColumnQuery query) {
+        Scan scan = new Scan();
+        scan.addFamily(family);
+        List<Filter> filters = new ArrayList<>();
+        query.getCondition().ifPresent(c -> toRange(c, filters));
+
+        boolean reversed = isReversed(query.getSorts());
+        scan.setReversed(reversed);
+        byte[] first = reversed ? stopRow : startRow;
+        byte[] last = reversed ? startRow : stopRow;
+        if (Objects.nonNull(first)) {
+            scan.withStartRow(first, reversed ? stopInclusive : startInclusive);
+        }
+        if (Objects.nonNull(last)) {
+            scan.withStopRow(last, reversed ? startInclusive : stopInclusive);
+        }
+        scan.setCacheBlocks(Objects.nonNull(startRow) || Objects.nonNull(stopRow));
+
+        if (filters.size() == 1) {
+            scan.setFilter(filters.get(0));
+        } else if (!filters.isEmpty()) {
+            scan.setFilter(new FilterList(FilterList.Operator.MUST_PASS_ALL, filters));
+        }
+
+        List<String> columns = query.getColumns();
+        if (columns.stream().anyMatch(c -> !KEY_COLUMN.equals(c))) {
+            columns.stream().filter(c -> !KEY_COLUMN.equals(c))
+                    .forEach(c -> scan.addColumn(family, Bytes.toBytes(c)));
+            filterColumns.forEach(c -> scan.addColumn(family, Bytes.toBytes(c)));
+        }
+        return scan;
+    }
+
+    private void toRange(ColumnCondition condition, List<Filter> filters) {
+        Column column = condition.getColumn();
+        if (Condition.AND.equals(condition.getCondition())) {
+            getConditions(column).forEach(c -> toRange(c, filters));
+            return;
+        }
+        if (!KEY_COLUMN.equals(column.getName())) {
+            filters.add(toFilter(condition, false));
+            return;
+        }
+        switch (condition.getCondition()) {
+            case EQUALS:
+                start(codec.encodeKey(column.getValue()), true);
+                stop(codec.encodeKey(column.getValue()), true);
+                return;
+            case GREATER_THAN:
+                start(encodeRange(KEY_COLUMN, column.getValue()), false);
+                return;
+            case GREATER_EQUALS_THAN:
+                start(encodeRange(KEY_COLUMN, column.getValue()), true);
+                return;
+            case LESSER_THAN:
+                stop(encodeRange(KEY_COLUMN, column.getValue()), false);
+                return;
+            case LESSER_EQUALS_THAN:
+                stop(encodeRange(KEY_COLUMN, column.getValue()), true);
+                return;
+            case BETWEEN:
+                List<Value> values = getValues(column);
+                start(encodeRange(KEY_COLUMN, values.get(0)), true);
+                stop(encodeRange(KEY_COLUMN, values.get(1)), true);
+                return;
+            case LIKE:
+                String like = column.get(String.class);
+                String prefix = getPrefix(like);
+                if (!prefix.isEmpty() && like.equals(prefix + '%')) {
+                    start(Bytes.toBytes(prefix), true);
+                    filters.add(new PrefixFilter(Bytes.toBytes(prefix)));
+                    return;
+                }
+                filters.add(toFilter(condition, false));
+                return;
+            default:
+                filters.add(toFilter(condition, false));
+        }
+    }
+
+    private Filter toFilter(ColumnCondition condition, boolean negate) {
+        Column column = condition.getColumn();
+        switch (condition.getCondition()) {
+            case EQUALS:
+                return compare(column, negate ? CompareOp.NOT_EQUAL : CompareOp.EQUAL);
+            case GREATER_THAN:
+                return compareRange(column, negate ? CompareOp.LESS_OR_EQUAL : CompareOp.GREATER);
+            case GREATER_EQUALS_THAN:
+                return compareRange(column, negate ? CompareOp.LESS : CompareOp.GREATER_OR_EQUAL);
+            case LESSER_THAN:
+                return compareRange(column, negate ? CompareOp.GREATER_OR_EQUAL : CompareOp.LESS);
+            case LESSER_EQUALS_THAN:
+                return compareRange(column, negate ? CompareOp.GREATER : CompareOp.LESS_OR_EQUAL);
+            case LIKE:
+                String prefix = KEY_COLUMN.equals(column.getName()) ? "" : codec.getTextPrefix();
+                RegexStringComparator regex = new RegexStringComparator(toRegex(prefix, column.get(String.class)));
+                return compare(column.getName(), negate ? CompareOp.NOT_EQUAL : CompareOp.EQUAL, regex);
+            case IN:
+                List<Filter> equals = new ArrayList<>();
+                for (Value value : getValues(column)) {
+                    equals.add(compare(column.getName(), negate ? CompareOp.NOT_EQUAL : CompareOp.EQUAL,
+                            new BinaryComparator(encode(column.getName(), value))));
+                }
+                return new FilterList(negate ? FilterList.Operator.MUST_PASS_ALL : FilterList.Operator.MUST_PASS_ONE,
+                        equals);
+            case BETWEEN:
+                List<Value> values = getValues(column);
+                Filter lower = compare(column.getName(), negate ? CompareOp.LESS : CompareOp.GREATER_OR_EQUAL,
+                        new BinaryComparator(encodeRange(column.getName(), values.get(0))));
+                Filter upper = compare(column.getName(), negate ? CompareOp.GREATER : CompareOp.LESS_OR_EQUAL,
+                        new BinaryComparator(encodeRange(column.getName(), values.get(1))));
+                return new FilterList(negate ? FilterList.Operator.MUST_PASS_ONE : FilterList.Operator.MUST_PASS_ALL,
+                        lower, upper);
+            case NOT:
+                return toFilter(column.get(ColumnCondition.class), !negate);
+            case AND:
+                return combine(column, negate ? FilterList.Operator.MUST_PASS_ONE : FilterList.Operator.MUST_PASS_ALL,
+                        negate);
+            case OR:
+                return combine(column, negate ? FilterList.Operator.MUST_PASS_ALL : FilterList.Operator.MUST_PASS_ONE,
+                        negate);
+            default:
+                throw new UnsupportedOperationException("Hbase does not support the following condition: "
+                        + condition.getCondition());
+        }
+    }
+
+    private Filter combine(Column column, FilterList.Operator operator, boolean negate) {
+        List<Filter> filters = new ArrayList<>();
+        for (ColumnCondition condition : getConditions(column)) {
+            filters.add(toFilter(condition, negate));
+        }
+        return new FilterList(operator, filters);
+    }
+
+    private Filter compare(Column column, CompareOp operator) {
+        return compare(column.getName(), operator,
+                new BinaryComparator(encode(column.getName(), column.getValue())));
+    }
+
+    private Filter compareRange(Column column, CompareOp operator) {
+        return compare(column.getName(), operator,
+                new BinaryComparator(encodeRange(column.getName(), column.getValue())));
+    }
+
+    private byte[] encodeRange(String name, Value value) {
+        Object object = value.get();
+        boolean text = KEY_COLUMN.equals(name) || codec.isText();
+        if (text && !(object instanceof CharSequence) && !(object instanceof byte[])) {
+            throw new UnsupportedOperationException("Hbase compares " + name + " at the text order, a range "
+                    + "condition requires a String value instead of: " + object.getClass().getName()
+                    + ", use the TYPED value encoding to numeric ranges on columns");
+        }
+        return encode(name, value);
+    }
+
+    private byte[] encode(String name, Value value) {
+        return KEY_COLUMN.equals(name) ? codec.encodeKey(value) : codec.encode(name, value);
+    }
+
+    private Filter compare(String name, CompareOp operator, ByteArrayComparable comparator) {
+        if (KEY_COLUMN.equals(name)) {
+            return new RowFilter(operator, comparator);
+        }
+        filterColumns.add(name);
+        SingleColumnValueFilter filter = new SingleColumnValueFilter(family, Bytes.toBytes(name), operator,
+                comparator);
+        filter.setFilterIfMissing(true);
+        return filter;
+    }
+
+    private void start(byte[] row, boolean inclusive) {
+        int compare = Objects.isNull(startRow) ? 1 : Bytes.compareTo(row, startRow);
+        if (compare > 0) {
+            startRow = row;
+            startInclusive = inclusive;
+        } else if (compare == 0) {
+            startInclusive = startInclusive && inclusive;
+        }
+    }
+
+    private void stop(byte[] row, boolean inclusive) {
+        int compare = Objects.isNull(stopRow) ? -1 : Bytes.compareTo(row, stopRow);
+        if (compare < 0) {
+            stopRow = row;
+            stopInclusive = inclusive;
+        } else if (compare == 0) {
+            stopInclusive = stopInclusive && inclusive;
+        }
+    }
+
+    private boolean isReversed(List<Sort> sorts) {
+        if (sorts.isEmpty()) {
+            return false;
+        }
+        if (sorts.size() > 1 || !KEY_COLUMN.equals(sorts.get(0).getName())) {
+            throw new UnsupportedOperationException("Hbase just supports sort by the row key: " + KEY_COLUMN);
+        }
+        return SortType.DESC.equals(sorts.get(0).getType());
+    }
+
+    private static List<ColumnCondition> getConditions(Column column) {
+        return column.get(new TypeReference<List<ColumnCondition>>() {
+        });
+    }
+
+    private static List<Value> getValues(Column column) {
+        Object value = column.get();
+        if (!(value instanceof Iterable)) {
+            return Collections.singletonList(column.getValue());
+        }
+        List<Value> values = new ArrayList<>();
+        for (Object item : (Iterable<?>) value) {
+            values.add(item instanceof Value ? (Value) item : Value.of(item));
+        }
+        return values;
+    }
+
+    private static String getPrefix(String like) {
+        StringBuilder prefix = new StringBuilder();
+        for (char character : like.toCharArray()) {
+            if (character == '%' || character == '_') {
+                break;
+            }
+            prefix.append(character);
+        }
+        return prefix.toString();
+    }
+
+    private static String toRegex(String prefix, String like) {
+        StringBuilder regex = new StringBuilder("^");
+        if (!prefix.isEmpty()) {
+            regex.append(Pattern.quote(prefix));
+        }
+        StringBuilder literal = new StringBuilder();
+        for (char character : like.toCharArray()) {
+            if (character == '%' || character == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(character == '%' ? ".*" : ".");
+            } else {
+                literal.append(character);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.append('$').toString();
+    }
+}
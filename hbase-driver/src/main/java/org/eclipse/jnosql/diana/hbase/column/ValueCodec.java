@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.hbase.column;
+
+
+import jakarta.nosql.Value;
+import jakarta.nosql.ValueWriter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.diana.writer.ValueWriterDecorator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts the column values to the cell bytes and back following a {@link HBaseValueEncoding}. The type hints
+ * define the type of a column: the value is converted to it before it is written and after it is read, so every
+ * cell of the column has the same type and is compared at the same order by the filters.
+ * The decode methods read the cell arrays at the given offset, so the cell is never copied.
+ */
+final class ValueCodec {
+
+    private static final byte STRING_TAG = 1;
+    private static final byte LONG_TAG = 2;
+    private static final byte DOUBLE_TAG = 3;
+    private static final byte BOOLEAN_TAG = 4;
+    private static final byte BYTES_TAG = 5;
+
+    private static final ValueWriter WRITER = ValueWriterDecorator.getInstance();
+
+    private final HBaseValueEncoding encoding;
+
+    private final Map<String, Class<?>> hints;
+
+    ValueCodec(HBaseValueEncoding encoding, Map<String, Class<?>> hints) {
+        this.encoding = encoding;
+        this.hints = Collections.unmodifiableMap(new HashMap<>(hints));
+    }
+
+    byte[] encodeKey(Value value) {
+        return Bytes.toBytes(toText(value.get()));
+    }
+
+    byte[] encode(String column, Value value) {
+        Class<?> type = hints.get(column);
+        Object object = value.get();
+        if (Objects.nonNull(type) && !type.isInstance(object)) {
+            object = value.get(type);
+        }
+        if (object instanceof byte[]) {
+            return HBaseValueEncoding.TYPED.equals(encoding) ? tag(BYTES_TAG, (byte[]) object) : (byte[]) object;
+        }
+        if (HBaseValueEncoding.STRING.equals(encoding)) {
+            return Bytes.toBytes(toText(object));
+        }
+        if (object instanceof Long || object instanceof Integer || object instanceof Short
+                || object instanceof Byte) {
+            return tag(LONG_TAG, Bytes.toBytes(((Number) object).longValue() ^ Long.MIN_VALUE));
+        }
+        if (object instanceof Double || object instanceof Float) {
+            long bits = Double.doubleToLongBits(((Number) object).doubleValue());
+            return tag(DOUBLE_TAG, Bytes.toBytes(bits ^ ((bits >> 63) | Long.MIN_VALUE)));
+        }
+        if (object instanceof Boolean) {
+            return tag(BOOLEAN_TAG, Bytes.toBytes((Boolean) object));
+        }
+        return tag(STRING_TAG, Bytes.toBytes(toText(object)));
+    }
+
+    String decodeKey(byte[] array, int offset, int length) {
+        return Bytes.toString(array, offset, length);
+    }
+
+    Object decode(String column, byte[] array, int offset, int length) {
+        Class<?> type = hints.get(column);
+        if (byte[].class.equals(type) && HBaseValueEncoding.STRING.equals(encoding)) {
+            return Arrays.copyOfRange(array, offset, offset + length);
+        }
+        Object value = HBaseValueEncoding.TYPED.equals(encoding) ? decodeTyped(array, offset, length)
+                : Bytes.toString(array, offset, length);
+        if (Objects.isNull(type) || type.isInstance(value)) {
+            return value;
+        }
+        return Value.of(value).get(type);
+    }
+
+    /**
+     * Checks if the column values are written as text, so the range filters compare them at the text order.
+     */
+    boolean isText() {
+        return HBaseValueEncoding.STRING.equals(encoding);
+    }
+
+    /**
+     * The prefix that the text values have at the cell, the regular expressions to the columns start with it.
+     */
+    String getTextPrefix() {
+        return HBaseValueEncoding.TYPED.equals(encoding) ? String.valueOf((char) STRING_TAG) : "";
+    }
+
+    private Object decodeTyped(byte[] array, int offset, int length) {
+        if (length == 0) {
+            return "";
+        }
+        int start = offset + 1;
+        switch (array[offset]) {
+            case STRING_TAG:
+                return Bytes.toString(array, start, length - 1);
+            case LONG_TAG:
+                return Bytes.toLong(array, start) ^ Long.MIN_VALUE;
+            case DOUBLE_TAG:
+                long bits = Bytes.toLong(array, start);
+                return Double.longBitsToDouble(bits ^ ((~bits >> 63) | Long.MIN_VALUE));
+            case BOOLEAN_TAG:
+                return array[start] != 0;
+            case BYTES_TAG:
+                return Arrays.copyOfRange(array, start, offset + length);
+            default:
+                return Bytes.toString(array, offset, length);
+        }
+    }
+
+    private static byte[] tag(byte tag, byte[] value) {
+        byte[] bytes = new byte[value.length + 1];
+        bytes[0] = tag;
+        System.arraycopy(value, 0, bytes, 1, value.length);
+        return bytes;
+    }
+
+    private static String toText(Object object) {
+        if (WRITER.isCompatible(object.getClass())) {
+            return WRITER.write(object).toString();
+        }
+        return object.toString();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ValueCodec{");
+        sb.append("encoding=").append(encoding);
+        sb.append(", hints=").append(hints);
+        sb.append('}');
+        return sb.toString();
+    }
+}
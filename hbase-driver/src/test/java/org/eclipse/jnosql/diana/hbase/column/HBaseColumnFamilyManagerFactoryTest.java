@@ -15,11 +15,17 @@
 
 package org.eclipse.jnosql.diana.hbase.column;
 
+import jakarta.nosql.column.Column;
 import jakarta.nosql.column.ColumnConfiguration;
+import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManagerFactory;
+import jakarta.nosql.column.ColumnQuery;
 import org.junit.jupiter.api.Test;
 
+import static jakarta.nosql.column.ColumnQuery.select;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 
 public class HBaseColumnFamilyManagerFactoryTest {
@@ -33,4 +39,31 @@ public class HBaseColumnFamilyManagerFactoryTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldShareConnectionBetweenManagers() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(HBaseColumnFamilyManagerTest.FAMILY);
+        HBaseColumnFamilyManagerFactory managerFactory = configuration.get();
+        HBaseColumnFamilyManager manager = managerFactory.get("database");
+        HBaseColumnFamilyManager manager2 = managerFactory.get("database");
+        manager.close();
+
+        ColumnEntity entity = ColumnEntity.of(HBaseColumnFamilyManagerTest.FAMILY);
+        entity.add(Column.of(HBaseColumnFamilyManagerTest.ID_FIELD, "factory"));
+        entity.add(Column.of("name", "shared"));
+        manager2.insert(entity);
+        ColumnQuery query = select().from(HBaseColumnFamilyManagerTest.FAMILY)
+                .where(HBaseColumnFamilyManagerTest.ID_FIELD).eq("factory").build();
+        assertEquals(1, manager2.select(query).count());
+        manager2.close();
+        managerFactory.close();
+    }
+
+    @Test
+    public void shouldReturnErrorWhenFactoryIsClosed() {
+        HBaseColumnFamilyManagerFactory managerFactory = new HBaseColumnConfiguration().get();
+        managerFactory.close();
+        assertThrows(IllegalStateException.class, () -> managerFactory.get("database"));
+    }
+
 }
\ No newline at end of file
@@ -21,16 +21,21 @@ import jakarta.nosql.column.ColumnEntity;
 import jakarta.nosql.column.ColumnFamilyManager;
 import jakarta.nosql.column.ColumnFamilyManagerFactory;
 import jakarta.nosql.column.ColumnQuery;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static jakarta.nosql.column.ColumnDeleteQuery.delete;
 import static jakarta.nosql.column.ColumnQuery.select;
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -55,6 +60,11 @@ public class HBaseColumnFamilyManagerTest {
         columnFamilyManager = managerFactory.get(DATA_BASE);
     }
 
+    @AfterEach
+    public void tearDown() {
+        managerFactory.close();
+    }
+
 
     @Test
     public void shouldSave() {
@@ -124,6 +134,173 @@ public class HBaseColumnFamilyManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    @Test
+    public void shouldSaveInBatch() {
+        columnFamilyManager.insert(asList(createEntity(), createEntity2()));
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").build();
+        assertEquals(2, columnFamilyManager.select(query).count());
+    }
+
+    @Test
+    public void shouldSaveWithWriteBuffer() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        configuration.setWriteBuffer(1024 * 1024, Duration.ofSeconds(1), null);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get(DATA_BASE);
+            manager.insert(asList(createEntity(), createEntity2()));
+            manager.flush();
+
+            ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                    .or(ID_FIELD).eq("poliana").build();
+            assertEquals(2, manager.select(query).count());
+            manager.close();
+        }
+    }
+
+    @Test
+    public void shouldFindByKeyRange() {
+        columnFamilyManager.insert(asList(createEntity(), createEntity2()));
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).gt("otaviojava")
+                .and(ID_FIELD).lte("poliana").build();
+        List<ColumnEntity> entities = columnFamilyManager.select(query).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertEquals(Column.of(ID_FIELD, "poliana"), entities.get(0).find(ID_FIELD).get());
+    }
+
+    @Test
+    public void shouldFindByKeyPrefix() {
+        columnFamilyManager.insert(asList(createEntity(), createEntity2()));
+        ColumnQuery query = select().from(FAMILY).where(ID_FIELD).like("otavio%").build();
+        List<ColumnEntity> entities = columnFamilyManager.select(query).collect(Collectors.toList());
+        assertEquals(1, entities.size());
+        assertEquals(Column.of(ID_FIELD, "otaviojava"), entities.get(0).find(ID_FIELD).get());
+    }
+
+    @Test
+    public void shouldFindByColumnValue() {
+        columnFamilyManager.insert(asList(createEntity(), createEntity2()));
+        ColumnQuery query = select().from(FAMILY).where("country").eq("Brazil")
+                .and("age").lt("26").build();
+        List<ColumnEntity> entities = columnFamilyManager.select(query).collect(Collectors.toList());
+        assertTrue(entities.stream().allMatch(e -> e.find("age").get().equals(Column.of("age", "24"))));
+        assertTrue(entities.stream().anyMatch(e -> e.find(ID_FIELD).get().equals(Column.of(ID_FIELD, "poliana"))));
+    }
+
+    @Test
+    public void shouldFindByNumericRange() {
+        ColumnQuery query = select().from(FAMILY).where("age").gt(9).build();
+        assertThrows(UnsupportedOperationException.class, () -> columnFamilyManager.select(query));
+
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        configuration.setValueEncoding(HBaseValueEncoding.TYPED);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get("typed_database");
+            manager.insert(asList(createEntity(), createEntity2()));
+
+            assertEquals(2, manager.select(query).count());
+            ColumnQuery between = select().from(FAMILY).where("age").between(9, 25).build();
+            List<ColumnEntity> entities = manager.select(between).collect(Collectors.toList());
+            assertEquals(1, entities.size());
+            assertEquals(Column.of(ID_FIELD, "poliana"), entities.get(0).find(ID_FIELD).get());
+            manager.close();
+        }
+    }
+
+    @Test
+    public void shouldFindWithProjection() {
+        columnFamilyManager.insert(createEntity());
+        ColumnQuery query = select("country").from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and("age").eq("26").build();
+        ColumnEntity entity = columnFamilyManager.select(query).findFirst().get();
+        assertTrue(entity.find("country").isPresent());
+        assertFalse(entity.find("age").isPresent());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIsNotTheKey() {
+        ColumnQuery query = select().from(FAMILY).orderBy("age").asc().build();
+        assertThrows(UnsupportedOperationException.class, () -> columnFamilyManager.select(query));
+    }
+
+    @Test
+    public void shouldSaveTypedValues() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        configuration.setValueEncoding(HBaseValueEncoding.TYPED);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get("typed_database");
+            ColumnEntity entity = createEntity();
+            entity.add(Column.of("salary", 1_000.5));
+            entity.add(Column.of("active", true));
+            entity.add(Column.of("photo", new byte[]{1, 2, 3}));
+            ColumnEntity entity2 = ColumnEntity.of(FAMILY);
+            entity2.add(Column.of(ID_FIELD, "poliana"));
+            entity2.add(Column.of("age", -24));
+            manager.insert(asList(entity, entity2));
+
+            ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava").build();
+            ColumnEntity result = manager.select(query).findFirst().get();
+            assertEquals(26L, result.find("age").get().get());
+            assertEquals(1_000.5, result.find("salary").get().get());
+            assertEquals(true, result.find("active").get().get());
+            assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) result.find("photo").get().get());
+            assertEquals("Brazil", result.find("country").get().get());
+
+            query = select().from(FAMILY).where("age").gt(0).build();
+            List<ColumnEntity> entities = manager.select(query).collect(Collectors.toList());
+            assertEquals(1, entities.size());
+            assertEquals(Column.of(ID_FIELD, "otaviojava"), entities.get(0).find(ID_FIELD).get());
+            manager.close();
+        }
+    }
+
+    @Test
+    public void shouldReadWithTypeHint() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        configuration.addTypeHint("age", Integer.class);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get(DATA_BASE);
+            manager.insert(createEntity());
+
+            ColumnQuery query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava").build();
+            ColumnEntity result = manager.select(query).findFirst().get();
+            assertEquals(26, result.find("age").get().get());
+            manager.close();
+        }
+    }
+
+    @Test
+    public void shouldCount() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get("aggregation_database");
+            manager.insert(asList(createEntity(), createEntity2()));
+            assertEquals(2L, manager.count(FAMILY));
+            manager.close();
+        }
+    }
+
+    @Test
+    public void shouldAggregateColumn() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add(FAMILY);
+        try (HBaseColumnFamilyManagerFactory factory = configuration.get()) {
+            HBaseColumnFamilyManager manager = factory.get("aggregation_database");
+            manager.insert(asList(createEntity(), createEntity2()));
+            assertEquals(new BigDecimal("50"), manager.sum(FAMILY, "age"));
+            assertEquals(new BigDecimal("24"), manager.min(FAMILY, "age").get());
+            assertEquals(new BigDecimal("26"), manager.max(FAMILY, "age").get());
+            assertFalse(manager.max(FAMILY, "salary").isPresent());
+            assertThrows(HBaseException.class, () -> manager.sum(FAMILY, "country"));
+            manager.close();
+        }
+    }
+
     private ColumnEntity createEntity() {
         ColumnEntity entity = ColumnEntity.of(FAMILY);
         entity.add(Column.of(ID_FIELD, "otaviojava"));
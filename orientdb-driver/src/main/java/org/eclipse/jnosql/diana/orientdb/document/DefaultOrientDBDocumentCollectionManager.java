@@ -44,10 +44,19 @@ import static org.eclipse.jnosql.diana.orientdb.document.OrientDBConverter.toMap
 
 class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollectionManager {
 
+    private static final int BATCH_ATTEMPTS = 3;
+
     private final ODatabasePool pool;
 
-    DefaultOrientDBDocumentCollectionManager(ODatabasePool pool) {
+    private final int batchSize;
+
+    private final LiveQuerySubscriptions subscriptions;
+
+    DefaultOrientDBDocumentCollectionManager(ODatabasePool pool, int batchSize,
+                                             LiveQuerySubscriptions subscriptions) {
         this.pool = pool;
+        this.batchSize = batchSize;
+        this.subscriptions = subscriptions;
     }
 
     @Override
@@ -78,9 +87,24 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(toList());
+        List<DocumentEntity> inserted = new ArrayList<>();
+        List<DocumentEntity> batch = new ArrayList<>();
+        try (ODatabaseSession tx = pool.acquire()) {
+            for (DocumentEntity entity : entities) {
+                requireNonNull(entity, "Entity is required");
+                batch.add(entity);
+                if (batch.size() == batchSize) {
+                    insert(tx, batch);
+                    inserted.addAll(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                insert(tx, batch);
+                inserted.addAll(batch);
+            }
+        }
+        return inserted;
     }
 
     @Override
@@ -101,46 +125,46 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        return insert(entities);
     }
 
     @Override
     public void delete(DocumentDeleteQuery query) {
         requireNonNull(query, "query is required");
-        DocumentQuery selectQuery = new OrientDBDocumentQuery(query);
-        QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(selectQuery);
-
-        try (ODatabaseSession tx = pool.acquire();
-             OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams())) {
-            while (resultSet.hasNext()) {
-                OResult next = resultSet.next();
-                tx.delete(next.toElement().getIdentity());
-            }
-        }
+        QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.toDelete(query);
 
+        try (ODatabaseSession tx = pool.acquire()) {
+            tx.command(orientQuery.getQuery(), orientQuery.getParams()).close();
+        }
     }
 
 
     @Override
     public Stream<DocumentEntity> select(DocumentQuery query) {
+        return collect(stream(query));
+    }
+
+    @Override
+    public Stream<DocumentEntity> stream(DocumentQuery query) {
         requireNonNull(query, "query is required");
         QueryOSQLFactory.QueryResult orientQuery = QueryOSQLFactory.to(query);
 
-        try (ODatabaseSession tx = pool.acquire()) {
-            List<DocumentEntity> entities = new ArrayList<>();
-            if (orientQuery.isRunQuery()) {
-                try (OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams())) {
-                    entities.addAll(OrientDBConverter.convert(resultSet));
-                }
+        ODatabaseSession tx = pool.acquire();
+        try {
+            if (!orientQuery.isRunQuery()) {
+                return new OrientDBResultIterator(tx, tx.query(orientQuery.getLoadQuery())).stream();
             }
+            List<DocumentEntity> entities = new ArrayList<>();
             if (orientQuery.isLoad()) {
-                orientQuery.getIds().stream().map(tx::load)
-                        .map(o -> OrientDBConverter.convert((ODocument) o))
-                        .forEach(entities::add);
+                try (OResultSet loaded = tx.query(orientQuery.getLoadQuery())) {
+                    loaded.stream().map(OrientDBConverter::convert).forEach(entities::add);
+                }
             }
-            return entities.stream();
+            OResultSet resultSet = tx.command(orientQuery.getQuery(), orientQuery.getParams());
+            return Stream.concat(new OrientDBResultIterator(tx, resultSet).stream(), entities.stream());
+        } catch (RuntimeException e) {
+            tx.close();
+            throw e;
         }
     }
 
@@ -159,51 +183,118 @@ class DefaultOrientDBDocumentCollectionManager implements OrientDBDocumentCollec
 
     @Override
     public Stream<DocumentEntity> sql(String query, Object... params) {
+        return collect(stream(query, params));
+    }
+
+    @Override
+    public Stream<DocumentEntity> sql(String query, Map<String, Object> params) {
+        return collect(stream(query, params));
+    }
+
+    @Override
+    public Stream<DocumentEntity> stream(String query, Object... params) {
         requireNonNull(query, "query is required");
-        try (ODatabaseSession tx = pool.acquire();
-             OResultSet resultSet = tx.command(query, params)) {
-            return OrientDBConverter.convert(resultSet).stream();
+        ODatabaseSession tx = pool.acquire();
+        try {
+            return new OrientDBResultIterator(tx, tx.command(query, params)).stream();
+        } catch (RuntimeException e) {
+            tx.close();
+            throw e;
         }
-
     }
 
     @Override
-    public Stream<DocumentEntity> sql(String query, Map<String, Object> params) {
+    public Stream<DocumentEntity> stream(String query, Map<String, Object> params) {
         requireNonNull(query, "query is required");
         requireNonNull(params, "params is required");
 
-        try (ODatabaseSession tx = pool.acquire();
-             OResultSet resultSet = tx.command(query, params)) {
-            return OrientDBConverter.convert(resultSet).stream();
+        ODatabaseSession tx = pool.acquire();
+        try {
+            return new OrientDBResultIterator(tx, tx.command(query, params)).stream();
+        } catch (RuntimeException e) {
+            tx.close();
+            throw e;
         }
     }
 
     @Override
-    public void live(DocumentQuery query, OrientDBLiveCallback<DocumentEntity> callbacks) {
+    public OrientDBLiveSubscription live(DocumentQuery query, OrientDBLiveCallback<DocumentEntity> callbacks) {
         requireNonNull(query, "query is required");
         requireNonNull(callbacks, "callbacks is required");
-        ODatabaseSession tx = pool.acquire();
         QueryOSQLFactory.QueryResult queryResult = QueryOSQLFactory.toLive(query, callbacks);
-        tx.live(queryResult.getQuery(), new LiveQueryListener(callbacks, tx));
+        return subscriptions.subscribe(queryResult.getQuery(), callbacks, queryResult.getParams());
     }
 
     @Override
-    public void live(String query, OrientDBLiveCallback<DocumentEntity> callbacks, Object... params) {
+    public OrientDBLiveSubscription live(String query, OrientDBLiveCallback<DocumentEntity> callbacks,
+                                         Object... params) {
         requireNonNull(query, "query is required");
         requireNonNull(callbacks, "callbacks is required");
-        ODatabaseSession tx = pool.acquire();
-        tx.live(query, new LiveQueryListener(callbacks, tx));
+        return subscriptions.subscribe(query, callbacks, params);
+    }
 
+    @Override
+    public OrientDBLiveSubscription live(String query, OrientDBLiveCallback<DocumentEntity> callbacks,
+                                         Map<String, Object> params) {
+        requireNonNull(query, "query is required");
+        requireNonNull(callbacks, "callbacks is required");
+        requireNonNull(params, "params is required");
+        return subscriptions.subscribe(query, callbacks, params);
     }
 
     @Override
     public void close() {
+        subscriptions.close();
         pool.close();
     }
 
+    private void insert(ODatabaseSession tx, List<DocumentEntity> entities) {
+        for (int attempt = 1; ; attempt++) {
+            boolean reload = attempt > 1;
+            List<ODocument> documents = entities.stream()
+                    .map(e -> toDocument(tx, e, reload))
+                    .collect(toList());
+            try {
+                tx.begin();
+                documents.forEach(tx::save);
+                tx.commit();
+            } catch (RuntimeException e) {
+                if (tx.getTransaction().isActive()) {
+                    tx.rollback();
+                }
+                if (!(e instanceof ONeedRetryException) || attempt == BATCH_ATTEMPTS) {
+                    throw e;
+                }
+                continue;
+            }
+            for (int index = 0; index < entities.size(); index++) {
+                updateEntity(entities.get(index), documents.get(index));
+            }
+            return;
+        }
+    }
+
+    private ODocument toDocument(ODatabaseSession tx, DocumentEntity entity, boolean reload) {
+        ODocument document = new ODocument(entity.getName());
+        Map<String, Object> entityValues = toMap(entity);
+        entityValues.forEach(document::field);
+        if (reload && document.getIdentity().isPersistent()) {
+            document = tx.reload(document, OFetchHelper.DEFAULT, false);
+            entityValues.put(VERSION_FIELD, document.getVersion());
+            entityValues.forEach(document::field);
+        }
+        return document;
+    }
+
     private void updateEntity(DocumentEntity entity, ODocument save) {
         ORecordId ridField = new ORecordId(save.getIdentity());
         entity.add(Document.of(RID_FIELD, ridField.toString()));
         entity.add(Document.of(VERSION_FIELD, save.getVersion()));
     }
+
+    private Stream<DocumentEntity> collect(Stream<DocumentEntity> stream) {
+        try (Stream<DocumentEntity> entities = stream) {
+            return entities.collect(toList()).stream();
+        }
+    }
 }
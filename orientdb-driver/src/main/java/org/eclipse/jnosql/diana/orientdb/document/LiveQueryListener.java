@@ -16,47 +16,182 @@
 package org.eclipse.jnosql.diana.orientdb.document;
 
 import com.orientechnologies.common.exception.OException;
-import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
 import com.orientechnologies.orient.core.db.OLiveQueryResultListener;
 import com.orientechnologies.orient.core.db.document.ODatabaseDocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
 import jakarta.nosql.document.DocumentEntity;
 
-class LiveQueryListener implements OLiveQueryResultListener {
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+/**
+ * Receives the events of one live query at the OrientDB notification thread, converts the record and hands it to
+ * a bounded queue; the queue is drained by one task at a time at the executor, so the callbacks keep the event
+ * order and a slow callback does not hold the notification thread, unless the overflow is
+ * {@link OrientDBLiveOverflow#BLOCK}.
+ */
+class LiveQueryListener implements OLiveQueryResultListener, OrientDBLiveSubscription {
+
+    private static final Logger LOGGER = Logger.getLogger(LiveQueryListener.class.getName());
+
+    private final String query;
     private final OrientDBLiveCallback<DocumentEntity> callbacks;
-    private final ODatabaseSession tx;
+    private final Executor executor;
+    private final OrientDBLiveOverflow overflow;
+    private final Consumer<LiveQueryListener> onEnd;
+    private final BlockingQueue<Runnable> events;
+
+    private final AtomicBoolean active = new AtomicBoolean(true);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
 
-    LiveQueryListener(OrientDBLiveCallback<DocumentEntity> callbacks, ODatabaseSession tx) {
+    private volatile OLiveQueryMonitor monitor;
+
+    LiveQueryListener(String query, OrientDBLiveCallback<DocumentEntity> callbacks, Executor executor,
+                      int queueSize, OrientDBLiveOverflow overflow, Consumer<LiveQueryListener> onEnd) {
+        this.query = query;
         this.callbacks = callbacks;
-        this.tx = tx;
+        this.executor = executor;
+        this.overflow = overflow;
+        this.onEnd = onEnd;
+        this.events = new ArrayBlockingQueue<>(queueSize);
+    }
+
+    void subscribe(OLiveQueryMonitor monitor) {
+        this.monitor = monitor;
+        if (!active.get()) {
+            monitor.unSubscribe();
+        }
     }
 
     @Override
     public void onCreate(ODatabaseDocument database, OResult data) {
         DocumentEntity entity = OrientDBConverter.convert(data);
-        callbacks.getCreateCallback().ifPresent(callback -> callback.accept(entity));
+        dispatch(() -> callbacks.getCreateCallback().ifPresent(callback -> callback.accept(entity)));
     }
 
     @Override
     public void onUpdate(ODatabaseDocument database, OResult before, OResult after) {
         DocumentEntity entity = OrientDBConverter.convert(after);
-        callbacks.getCreateCallback().ifPresent(callback -> callback.accept(entity));
+        dispatch(() -> callbacks.getUpdateCallback().ifPresent(callback -> callback.accept(entity)));
     }
 
     @Override
     public void onDelete(ODatabaseDocument database, OResult data) {
         DocumentEntity entity = OrientDBConverter.convert(data);
-        callbacks.getCreateCallback().ifPresent(callback -> callback.accept(entity));
+        dispatch(() -> callbacks.getDeleteCallback().ifPresent(callback -> callback.accept(entity)));
     }
 
     @Override
     public void onError(ODatabaseDocument database, OException exception) {
-        System.out.printf("error");
+        LOGGER.log(Level.WARNING, "An error at the live query: " + query, exception);
     }
 
     @Override
     public void onEnd(ODatabaseDocument database) {
-        tx.close();
+        if (active.compareAndSet(true, false)) {
+            onEnd.accept(this);
+        }
+    }
+
+    @Override
+    public String getQuery() {
+        return query;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active.get();
+    }
+
+    @Override
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    @Override
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    @Override
+    public int getPending() {
+        return events.size();
+    }
+
+    @Override
+    public void unsubscribe() {
+        if (active.compareAndSet(true, false)) {
+            if (Objects.nonNull(monitor)) {
+                monitor.unSubscribe();
+            }
+            events.clear();
+            onEnd.accept(this);
+        }
+    }
+
+    private void dispatch(Runnable event) {
+        if (!active.get()) {
+            return;
+        }
+        switch (overflow) {
+            case DROP_NEWEST:
+                if (!events.offer(event)) {
+                    dropped.incrementAndGet();
+                }
+                break;
+            case DROP_OLDEST:
+                while (!events.offer(event)) {
+                    if (Objects.nonNull(events.poll())) {
+                        dropped.incrementAndGet();
+                    }
+                }
+                break;
+            default:
+                try {
+                    events.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.incrementAndGet();
+                    return;
+                }
+        }
+        schedule();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                LOGGER.log(Level.WARNING, "The live query executor rejected the events of: " + query, e);
+            }
+        }
+    }
+
+    private void drain() {
+        do {
+            Runnable event;
+            while ((event = events.poll()) != null) {
+                try {
+                    event.run();
+                    delivered.incrementAndGet();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "An error at the live query callback: " + query, e);
+                }
+            }
+            scheduled.set(false);
+        } while (!events.isEmpty() && scheduled.compareAndSet(false, true));
     }
 }
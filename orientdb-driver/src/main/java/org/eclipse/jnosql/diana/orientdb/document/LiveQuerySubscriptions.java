@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.orientdb.document;
+
+import com.orientechnologies.orient.core.db.ODatabasePool;
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.db.OLiveQueryMonitor;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps the live queries of a manager. Every subscription is registered through a single session taken from the
+ * pool at the first subscription and returned when the manager is closed, instead of a session per live query.
+ */
+final class LiveQuerySubscriptions implements AutoCloseable {
+
+    private final ODatabasePool pool;
+
+    private final Executor executor;
+
+    private final int queueSize;
+
+    private final OrientDBLiveOverflow overflow;
+
+    private final Set<LiveQueryListener> listeners = ConcurrentHashMap.newKeySet();
+
+    private ODatabaseSession session;
+
+    LiveQuerySubscriptions(ODatabasePool pool, Executor executor, int queueSize, OrientDBLiveOverflow overflow) {
+        this.pool = pool;
+        this.executor = executor;
+        this.queueSize = queueSize;
+        this.overflow = overflow;
+    }
+
+    OrientDBLiveSubscription subscribe(String query, OrientDBLiveCallback<DocumentEntity> callbacks,
+                                       Object... params) {
+        return register(query, callbacks, (s, l) -> s.live(query, l, params));
+    }
+
+    OrientDBLiveSubscription subscribe(String query, OrientDBLiveCallback<DocumentEntity> callbacks,
+                                       Map<String, ?> params) {
+        return register(query, callbacks, (s, l) -> s.live(query, l, params));
+    }
+
+    @Override
+    public synchronized void close() {
+        new ArrayList<>(listeners).forEach(LiveQueryListener::unsubscribe);
+        if (Objects.nonNull(session)) {
+            session.activateOnCurrentThread();
+            session.close();
+            session = null;
+        }
+    }
+
+    private synchronized OrientDBLiveSubscription register(String query,
+                                                           OrientDBLiveCallback<DocumentEntity> callbacks,
+                                                           BiFunction<ODatabaseSession, LiveQueryListener,
+                                                                   OLiveQueryMonitor> live) {
+        LiveQueryListener listener = new LiveQueryListener(query, callbacks, executor, queueSize, overflow,
+                listeners::remove);
+        listeners.add(listener);
+        try {
+            listener.subscribe(live.apply(session(), listener));
+            return listener;
+        } catch (RuntimeException e) {
+            listeners.remove(listener);
+            throw e;
+        }
+    }
+
+    private ODatabaseSession session() {
+        if (Objects.isNull(session)) {
+            session = pool.acquire();
+        } else {
+            session.activateOnCurrentThread();
+        }
+        return session;
+    }
+}
@@ -20,12 +20,10 @@ import com.orientechnologies.orient.core.metadata.schema.OClass;
 import com.orientechnologies.orient.core.record.OElement;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.executor.OResult;
-import com.orientechnologies.orient.core.sql.executor.OResultSet;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentEntity;
 import org.eclipse.jnosql.diana.driver.ValueUtil;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,15 +42,6 @@ final class OrientDBConverter {
     private OrientDBConverter() {
     }
 
-    static List<DocumentEntity> convert(OResultSet resultSet) {
-        List<DocumentEntity> entities = new ArrayList<>();
-
-        while (resultSet.hasNext()) {
-            entities.add(convert(resultSet.next()));
-        }
-        return entities;
-    }
-
     static DocumentEntity convert(OResult row) {
         OElement element = row.toElement();
         String name = element.getSchemaType()
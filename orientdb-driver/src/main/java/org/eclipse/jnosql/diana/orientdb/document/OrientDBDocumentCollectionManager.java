@@ -28,10 +28,36 @@ import java.util.stream.Stream;
  * <p>{@link OrientDBDocumentCollectionManager#insert(DocumentEntity, java.time.Duration)}</p>
  * Also this implementation has support SQL query and also live query.
  * <p>{@link OrientDBDocumentCollectionManager#sql(String, Object...)}</p>
+ * A group of documents is saved in batches, each batch in a single transaction that is retried when OrientDB
+ * asks for it, e.g. a concurrent modification.
+ * <p>{@link OrientDBDocumentCollectionManager#insert(Iterable)}</p>
  */
 public interface OrientDBDocumentCollectionManager extends DocumentCollectionManager {
+
+    /**
+     * Finds {@link DocumentEntity} from query. The records are read before returning, so the session is already
+     * back to the pool; use {@link OrientDBDocumentCollectionManager#stream(DocumentQuery)} to read them lazily.
+     *
+     * @param query - query to figure out entities
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    @Override
+    Stream<DocumentEntity> select(DocumentQuery query);
+
+    /**
+     * Finds {@link DocumentEntity} from query reading the records lazily from the result set. The session is kept
+     * out of the pool until the stream is fully consumed or closed, so the caller must close it, e.g. with
+     * try-with-resources.
+     *
+     * @param query - query to figure out entities
+     * @return entities found by query
+     * @throws NullPointerException when query is null
+     */
+    Stream<DocumentEntity> stream(DocumentQuery query);
+
     /**
-     * Find using query
+     * Find using query. The records are read before returning, so the session is already back to the pool.
      *
      * @param query  the query
      * @param params the params
@@ -41,7 +67,7 @@ public interface OrientDBDocumentCollectionManager extends DocumentCollectionMan
     Stream<DocumentEntity> sql(String query, Object... params);
 
     /**
-     * Find using query
+     * Find using query. The records are read before returning, so the session is already back to the pool.
      *
      * @param query  the query
      * @param params the params
@@ -51,20 +77,60 @@ public interface OrientDBDocumentCollectionManager extends DocumentCollectionMan
     Stream<DocumentEntity> sql(String query, Map<String, Object> params);
 
     /**
-     * Execute live query
+     * Find using query reading the records lazily from the result set. The session is kept out of the pool until
+     * the stream is fully consumed or closed, so the caller must close it, e.g. with try-with-resources.
+     *
+     * @param query  the query
+     * @param params the params
+     * @return the query result
+     * @throws NullPointerException when either query or params are null
+     */
+    Stream<DocumentEntity> stream(String query, Object... params);
+
+    /**
+     * Find using query reading the records lazily from the result set. The session is kept out of the pool until
+     * the stream is fully consumed or closed, so the caller must close it, e.g. with try-with-resources.
+     *
+     * @param query  the query
+     * @param params the params
+     * @return the query result
+     * @throws NullPointerException when either query or params are null
+     */
+    Stream<DocumentEntity> stream(String query, Map<String, Object> params);
+
+    /**
+     * Execute live query. The events are queued and the callbacks run at the live query executor, the live
+     * queries of a manager share one session that is released when the manager is closed.
      *
      * @param query     the query
      * @param callbacks Callbacks for create, update and delete operations
+     * @return the subscription to follow and stop the live query
      * @throws NullPointerException when both query and callBack are null
      */
-    void live(DocumentQuery query, OrientDBLiveCallback<DocumentEntity> callbacks);
+    OrientDBLiveSubscription live(DocumentQuery query, OrientDBLiveCallback<DocumentEntity> callbacks);
 
     /**
-     * Execute live query
+     * Execute live query. The events are queued and the callbacks run at the live query executor, the live
+     * queries of a manager share one session that is released when the manager is closed.
      *
      * @param query     the query
      * @param callbacks Callbacks for create, update and delete operations
+     * @param params    the params
+     * @return the subscription to follow and stop the live query
      * @throws NullPointerException when both query and callBack are null
      */
-    void live(String query, OrientDBLiveCallback<DocumentEntity> callbacks, Object... params);
+    OrientDBLiveSubscription live(String query, OrientDBLiveCallback<DocumentEntity> callbacks, Object... params);
+
+    /**
+     * Execute live query. The events are queued and the callbacks run at the live query executor, the live
+     * queries of a manager share one session that is released when the manager is closed.
+     *
+     * @param query     the query
+     * @param callbacks Callbacks for create, update and delete operations
+     * @param params    the named params
+     * @return the subscription to follow and stop the live query
+     * @throws NullPointerException when either query, callBack or params are null
+     */
+    OrientDBLiveSubscription live(String query, OrientDBLiveCallback<DocumentEntity> callbacks,
+                                  Map<String, Object> params);
 }
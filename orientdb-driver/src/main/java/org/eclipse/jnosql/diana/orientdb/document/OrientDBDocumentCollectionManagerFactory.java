@@ -22,6 +22,11 @@ import com.orientechnologies.orient.core.db.OrientDBConfig;
 import jakarta.nosql.document.DocumentCollectionManagerAsyncFactory;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 
@@ -36,8 +41,15 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
     private final String password;
     private final ODatabaseType storageType;
     private final OrientDB orient;
+    private final int batchSize;
+    private final Executor liveExecutor;
+    private final ExecutorService ownLiveExecutor;
+    private final int liveQueueSize;
+    private final OrientDBLiveOverflow liveOverflow;
 
-    OrientDBDocumentCollectionManagerFactory(String host, String user, String password, String storageType) {
+    OrientDBDocumentCollectionManagerFactory(String host, String user, String password, String storageType,
+                                             int batchSize, Executor liveExecutor, int liveQueueSize,
+                                             OrientDBLiveOverflow liveOverflow) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -48,7 +60,11 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
 
         String prefix = this.storageType == ODatabaseType.MEMORY ? "embedded:" : "remote:";
         this.orient = new OrientDB(prefix + host, user, password, OrientDBConfig.defaultConfig());
-
+        this.batchSize = batchSize;
+        this.ownLiveExecutor = liveExecutor == null ? createLiveExecutor() : null;
+        this.liveExecutor = liveExecutor == null ? ownLiveExecutor : liveExecutor;
+        this.liveQueueSize = liveQueueSize;
+        this.liveOverflow = liveOverflow;
     }
 
     @Override
@@ -57,7 +73,9 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
 
         orient.createIfNotExists(database, storageType);
         ODatabasePool pool = new ODatabasePool(orient, database, user, password);
-        return new DefaultOrientDBDocumentCollectionManager(pool);
+        LiveQuerySubscriptions subscriptions = new LiveQuerySubscriptions(pool, liveExecutor, liveQueueSize,
+                liveOverflow);
+        return new DefaultOrientDBDocumentCollectionManager(pool, batchSize, subscriptions);
 
     }
 
@@ -73,5 +91,17 @@ public class OrientDBDocumentCollectionManagerFactory implements DocumentCollect
     @Override
     public void close() {
         orient.close();
+        if (ownLiveExecutor != null) {
+            ownLiveExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService createLiveExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "orientdb-live-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
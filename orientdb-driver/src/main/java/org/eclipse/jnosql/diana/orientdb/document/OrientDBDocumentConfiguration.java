@@ -23,6 +23,7 @@ import jakarta.nosql.document.DocumentConfigurationAsync;
 import org.eclipse.jnosql.diana.driver.ConfigurationReader;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -36,11 +37,21 @@ import static java.util.stream.Collectors.toList;
  * <p>orientdb.user: the user</p>
  * <p>orientdb.password: the password</p>
  * <p>orientdb.storage.type: the storage type</p>
+ * <p>orientdb.batch.size: the number of documents saved in one transaction when a group of documents is inserted,
+ * the default value is 1000</p>
+ * <p>orientdb.live.queue.size: the number of live query events waiting for the callbacks of each subscription,
+ * the default value is 1000</p>
+ * <p>orientdb.live.overflow: what happens when the live query queue is full, {@link OrientDBLiveOverflow},
+ * the default value is BLOCK</p>
  */
 public class OrientDBDocumentConfiguration implements DocumentConfiguration, DocumentConfigurationAsync {
 
     private static final String FILE_CONFIGURATION = "diana-orientdb.properties";
 
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final int DEFAULT_LIVE_QUEUE_SIZE = 1000;
+
     private String host;
 
     private String user;
@@ -49,6 +60,14 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration, Doc
 
     private String storageType;
 
+    private int batchSize;
+
+    private int liveQueueSize;
+
+    private OrientDBLiveOverflow liveOverflow;
+
+    private Executor liveExecutor;
+
     public OrientDBDocumentConfiguration() {
         Map<String, String> properties = ConfigurationReader.from(FILE_CONFIGURATION);
         SettingsBuilder builder = Settings.builder();
@@ -59,6 +78,9 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration, Doc
         this.user = getUser(settings);
         this.password = getPassword(settings);
         this.storageType = getStorageType(settings);
+        this.batchSize = getBatchSize(settings);
+        this.liveQueueSize = getLiveQueueSize(settings);
+        this.liveOverflow = getLiveOverflow(settings);
     }
 
     public void setHost(String host) {
@@ -77,9 +99,51 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration, Doc
         this.storageType = storageType;
     }
 
+    /**
+     * Defines the number of documents saved in one transaction when a group of documents is inserted
+     *
+     * @param batchSize the batch size
+     * @throws IllegalArgumentException when batchSize is lesser than one
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = checkBatchSize(batchSize);
+    }
+
+    /**
+     * Defines the number of live query events waiting for the callbacks of each subscription
+     *
+     * @param liveQueueSize the queue size
+     * @throws IllegalArgumentException when liveQueueSize is lesser than one
+     */
+    public void setLiveQueueSize(int liveQueueSize) {
+        this.liveQueueSize = checkLiveQueueSize(liveQueueSize);
+    }
+
+    /**
+     * Defines what happens to a live query event when the queue is full
+     *
+     * @param liveOverflow the overflow policy
+     * @throws NullPointerException when liveOverflow is null
+     */
+    public void setLiveOverflow(OrientDBLiveOverflow liveOverflow) {
+        this.liveOverflow = requireNonNull(liveOverflow, "liveOverflow is required");
+    }
+
+    /**
+     * Defines the executor that runs the live query callbacks. When it is not defined, the factory creates a
+     * pool with one daemon thread per processor and shuts it down when it is closed.
+     *
+     * @param liveExecutor the executor
+     * @throws NullPointerException when liveExecutor is null
+     */
+    public void setLiveExecutor(Executor liveExecutor) {
+        this.liveExecutor = requireNonNull(liveExecutor, "liveExecutor is required");
+    }
+
     @Override
     public OrientDBDocumentCollectionManagerFactory get() {
-        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType);
+        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType, batchSize,
+                liveExecutor, liveQueueSize, liveOverflow);
     }
 
     @Override
@@ -94,7 +158,11 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration, Doc
         String user = getUser(settings);
         String password = getPassword(settings);
         String storageType = getStorageType(settings);
-        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType);
+        int batchSize = getBatchSize(settings);
+        int liveQueueSize = getLiveQueueSize(settings);
+        OrientDBLiveOverflow liveOverflow = getLiveOverflow(settings);
+        return new OrientDBDocumentCollectionManagerFactory(host, user, password, storageType, batchSize,
+                liveExecutor, liveQueueSize, liveOverflow);
     }
 
     private String getHost(Settings settings) {
@@ -117,6 +185,43 @@ public class OrientDBDocumentConfiguration implements DocumentConfiguration, Doc
                 OrientDBDocumentConfigurations.STORAGE_TYPE);
     }
 
+    private int getBatchSize(Settings settings) {
+        return settings.get(OrientDBDocumentConfigurations.BATCH_SIZE.get())
+                .map(Object::toString)
+                .map(Integer::valueOf)
+                .map(OrientDBDocumentConfiguration::checkBatchSize)
+                .orElse(DEFAULT_BATCH_SIZE);
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than zero");
+        }
+        return batchSize;
+    }
+
+    private int getLiveQueueSize(Settings settings) {
+        return settings.get(OrientDBDocumentConfigurations.LIVE_QUEUE_SIZE.get())
+                .map(Object::toString)
+                .map(Integer::valueOf)
+                .map(OrientDBDocumentConfiguration::checkLiveQueueSize)
+                .orElse(DEFAULT_LIVE_QUEUE_SIZE);
+    }
+
+    private static int checkLiveQueueSize(int liveQueueSize) {
+        if (liveQueueSize < 1) {
+            throw new IllegalArgumentException("The live query queue size must be greater than zero");
+        }
+        return liveQueueSize;
+    }
+
+    private OrientDBLiveOverflow getLiveOverflow(Settings settings) {
+        return settings.get(OrientDBDocumentConfigurations.LIVE_OVERFLOW.get())
+                .map(Object::toString)
+                .map(String::toUpperCase)
+                .map(OrientDBLiveOverflow::valueOf)
+                .orElse(OrientDBLiveOverflow.BLOCK);
+    }
 
     private String find(Settings settings, Supplier<String>... keys) {
         return settings.get(Stream.of(keys)
@@ -21,7 +21,10 @@ public enum OrientDBDocumentConfigurations implements Supplier<String> {
     HOST("orientdb.host"),
     USER("orientdb.-user"),
     PASSWORD("orientdb.password"),
-    STORAGE_TYPE("orientdb.storage.type");
+    STORAGE_TYPE("orientdb.storage.type"),
+    BATCH_SIZE("orientdb.batch.size"),
+    LIVE_QUEUE_SIZE("orientdb.live.queue.size"),
+    LIVE_OVERFLOW("orientdb.live.overflow");
 
     private final String configuration;
 
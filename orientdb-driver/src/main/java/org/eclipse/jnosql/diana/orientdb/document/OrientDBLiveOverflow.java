@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.orientdb.document;
+
+/**
+ * Defines what happens to a live query event when the subscription queue is full,
+ * that is, when the callbacks are slower than the events pushed by OrientDB.
+ *
+ * @see OrientDBDocumentConfiguration#setLiveOverflow(OrientDBLiveOverflow)
+ */
+public enum OrientDBLiveOverflow {
+    /**
+     * OrientDB waits until there is room at the queue, no event is lost.
+     */
+    BLOCK,
+    /**
+     * The new event is discarded.
+     */
+    DROP_NEWEST,
+    /**
+     * The oldest event at the queue is discarded to give room to the new one.
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.orientdb.document;
+
+/**
+ * A live query subscription returned by {@link OrientDBDocumentCollectionManager#live(jakarta.nosql.document.DocumentQuery,
+ * OrientDBLiveCallback)}. The events are queued and the callbacks run in order at the live query executor, never
+ * at the OrientDB notification thread.
+ */
+public interface OrientDBLiveSubscription extends AutoCloseable {
+
+    /**
+     * The live query
+     *
+     * @return the query
+     */
+    String getQuery();
+
+    /**
+     * Checks if the subscription still receives events
+     *
+     * @return false when it was unsubscribed or OrientDB has ended it
+     */
+    boolean isActive();
+
+    /**
+     * The number of events delivered to the callbacks
+     *
+     * @return the delivered events
+     */
+    long getDelivered();
+
+    /**
+     * The number of events discarded because the queue was full
+     *
+     * @return the dropped events
+     * @see OrientDBLiveOverflow
+     */
+    long getDropped();
+
+    /**
+     * The number of events waiting at the queue
+     *
+     * @return the pending events
+     */
+    int getPending();
+
+    /**
+     * Stops the live query, the events waiting at the queue are discarded
+     */
+    void unsubscribe();
+
+    /**
+     * Same as {@link OrientDBLiveSubscription#unsubscribe()}
+     */
+    @Override
+    default void close() {
+        unsubscribe();
+    }
+}
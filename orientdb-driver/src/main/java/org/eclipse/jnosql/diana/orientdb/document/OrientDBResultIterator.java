@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.diana.orientdb.document;
+
+import com.orientechnologies.orient.core.db.ODatabaseSession;
+import com.orientechnologies.orient.core.sql.executor.OResultSet;
+import jakarta.nosql.document.DocumentEntity;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the records of an {@link OResultSet} one at a time, converting each one to {@link DocumentEntity} only
+ * when it is requested. The session and the result set are kept open while the iteration goes on and both are
+ * released either when the result set is exhausted or when the stream returned by
+ * {@link OrientDBResultIterator#stream()} is closed; the session goes back to the pool.
+ */
+final class OrientDBResultIterator implements Iterator<DocumentEntity>, AutoCloseable {
+
+    private final ODatabaseSession session;
+
+    private final OResultSet resultSet;
+
+    private boolean finished;
+
+    OrientDBResultIterator(ODatabaseSession session, OResultSet resultSet) {
+        this.session = session;
+        this.resultSet = resultSet;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        session.activateOnCurrentThread();
+        boolean hasNext = resultSet.hasNext();
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public DocumentEntity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more records at the result set");
+        }
+        return OrientDBConverter.convert(resultSet.next());
+    }
+
+    Stream<DocumentEntity> stream() {
+        Spliterator<DocumentEntity> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        session.activateOnCurrentThread();
+        try {
+            resultSet.close();
+        } finally {
+            session.close();
+        }
+    }
+}
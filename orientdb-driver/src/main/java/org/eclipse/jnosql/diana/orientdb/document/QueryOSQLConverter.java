@@ -17,15 +17,21 @@ package org.eclipse.jnosql.diana.orientdb.document;
 
 
 import com.orientechnologies.orient.core.id.ORecordId;
+import jakarta.nosql.Condition;
 import jakarta.nosql.Sort;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
+import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 import org.eclipse.jnosql.diana.driver.ValueUtil;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 final class QueryOSQLConverter {
 
@@ -45,19 +51,60 @@ final class QueryOSQLConverter {
     private static final String SPACE = " ";
     private static final char PARAM_APPENDER = '?';
 
+    private static final int STATEMENTS_SIZE = 500;
+
+    private static final Map<List<Object>, String> STATEMENTS = Collections.synchronizedMap(
+            new LinkedHashMap<List<Object>, String>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, String> eldest) {
+                    return size() > STATEMENTS_SIZE;
+                }
+            });
+
     private QueryOSQLConverter() {
     }
 
     static Query select(DocumentQuery documentQuery) {
-        StringBuilder query = new StringBuilder();
-        List<Object> params = new java.util.ArrayList<>();
+        List<Object> params = new ArrayList<>();
         List<ORecordId> ids = new ArrayList<>();
+        List<Object> shape = new ArrayList<>();
+        shape.add("SELECT");
+        shape.add(documentQuery.getDocumentCollection());
+        documentQuery.getCondition().ifPresent(c -> bind(c, params, ids, shape));
+        for (Sort sort : documentQuery.getSorts()) {
+            shape.add(sort.getName());
+            shape.add(sort.getType());
+        }
+        shape.add(documentQuery.getSkip() > 0);
+        shape.add(documentQuery.getLimit() > 0);
+        bindPagination(documentQuery, params);
+        String query = STATEMENTS.computeIfAbsent(shape, k -> toSelect(documentQuery));
+        return new Query(query, params, ids);
+    }
+
+    static Query delete(DocumentDeleteQuery documentQuery) {
+        List<Object> params = new ArrayList<>();
+        List<Object> shape = new ArrayList<>();
+        shape.add("DELETE");
+        shape.add(documentQuery.getDocumentCollection());
+        documentQuery.getCondition().ifPresent(c -> bind(c, params, null, shape));
+        String query = STATEMENTS.computeIfAbsent(shape, k -> toDelete(documentQuery));
+        return new Query(query, params, Collections.emptyList());
+    }
+
+    static String load(List<ORecordId> ids) {
+        return ids.stream().map(ORecordId::toString)
+                .collect(Collectors.joining(", ", "SELECT FROM [", "]"));
+    }
+
+    private static String toSelect(DocumentQuery documentQuery) {
+        StringBuilder query = new StringBuilder();
         query.append("SELECT FROM ");
         query.append(documentQuery.getDocumentCollection());
 
         if (documentQuery.getCondition().isPresent()) {
             query.append(WHERE);
-            definesCondition(documentQuery.getCondition().get(), query, params, 0, ids);
+            definesCondition(documentQuery.getCondition().get(), query, 0, true);
         }
 
         if (!documentQuery.getSorts().isEmpty()) {
@@ -65,34 +112,96 @@ final class QueryOSQLConverter {
         }
 
         appendPagination(documentQuery, query);
-        return new Query(query.toString(), params, ids);
+        return query.toString();
     }
 
-    private static void definesCondition(DocumentCondition condition, StringBuilder query, List<Object> params,
-                                         int counter, List<ORecordId> ids) {
+    private static String toDelete(DocumentDeleteQuery documentQuery) {
+        StringBuilder query = new StringBuilder();
+        query.append("DELETE FROM ");
+        query.append(documentQuery.getDocumentCollection());
+
+        if (documentQuery.getCondition().isPresent()) {
+            query.append(WHERE);
+            definesCondition(documentQuery.getCondition().get(), query, 0, false);
+        }
+        return query.toString();
+    }
+
+    private static void bind(DocumentCondition condition, List<Object> params, List<ORecordId> ids,
+                             List<Object> shape) {
+
+        Document document = condition.getDocument();
+        shape.add(condition.getCondition());
+        switch (condition.getCondition()) {
+            case AND:
+            case OR:
+                List<DocumentCondition> conditions = document.get(new TypeReference<List<DocumentCondition>>() {
+                });
+                shape.add(conditions.size());
+                conditions.forEach(dc -> bind(dc, params, ids, shape));
+                return;
+            case NOT:
+                bind(document.get(DocumentCondition.class), params, ids, shape);
+                return;
+            default:
+                shape.add(document.getName());
+                bindCondition(params, document, condition.getCondition() == Condition.IN, ids);
+        }
+    }
+
+    private static void bindPagination(DocumentQuery documentQuery, List<Object> params) {
+        if (documentQuery.getSkip() > 0) {
+            params.add(documentQuery.getSkip());
+        }
+        if (documentQuery.getLimit() > 0) {
+            params.add(documentQuery.getLimit());
+        }
+    }
+
+    private static void bindCondition(List<Object> params, Document document, boolean in, List<ORecordId> ids) {
+        boolean rid = OrientDBConverter.RID_FIELD.equals(document.getName());
+        if (rid && ids != null) {
+            if (in) {
+                ValueUtil.convertToList(document.getValue()).forEach(v -> ids.add(new ORecordId(v.toString())));
+            } else {
+                ids.add(new ORecordId(document.get(String.class)));
+            }
+            return;
+        }
+        if (in) {
+            List<Object> values = ValueUtil.convertToList(document.getValue());
+            params.add(rid ? values.stream().map(v -> new ORecordId(v.toString())).collect(Collectors.toList())
+                    : values);
+        } else {
+            params.add(rid ? new ORecordId(document.get(String.class)) : document.get());
+        }
+    }
+
+    private static void definesCondition(DocumentCondition condition, StringBuilder query, int counter,
+                                         boolean loadIds) {
 
         Document document = condition.getDocument();
         switch (condition.getCondition()) {
             case IN:
-                appendCondition(query, params, document, IN, ids);
+                appendCondition(query, document, IN, loadIds);
                 return;
             case EQUALS:
-                appendCondition(query, params, document, EQUALS, ids);
+                appendCondition(query, document, EQUALS, loadIds);
                 return;
             case GREATER_EQUALS_THAN:
-                appendCondition(query, params, document, GREATER_EQUALS_THAN, ids);
+                appendCondition(query, document, GREATER_EQUALS_THAN, loadIds);
                 return;
             case GREATER_THAN:
-                appendCondition(query, params, document, GREATER_THAN, ids);
+                appendCondition(query, document, GREATER_THAN, loadIds);
                 return;
             case LESSER_THAN:
-                appendCondition(query, params, document, LESSER_THAN, ids);
+                appendCondition(query, document, LESSER_THAN, loadIds);
                 return;
             case LESSER_EQUALS_THAN:
-                appendCondition(query, params, document, LESSER_EQUALS_THAN, ids);
+                appendCondition(query, document, LESSER_EQUALS_THAN, loadIds);
                 return;
             case LIKE:
-                appendCondition(query, params, document, LIKE, ids);
+                appendCondition(query, document, LIKE, loadIds);
                 return;
             case AND:
                 for (DocumentCondition dc : document.get(new TypeReference<List<DocumentCondition>>() {
@@ -101,7 +210,7 @@ final class QueryOSQLConverter {
                     if (isFirstCondition(query, counter)) {
                         query.append(AND);
                     }
-                    definesCondition(dc, query, params, ++counter, ids);
+                    definesCondition(dc, query, ++counter, loadIds);
                 }
                 return;
             case OR:
@@ -110,13 +219,13 @@ final class QueryOSQLConverter {
                     if (isFirstCondition(query, counter)) {
                         query.append(OR);
                     }
-                    definesCondition(dc, query, params, ++counter, ids);
+                    definesCondition(dc, query, ++counter, loadIds);
                 }
                 return;
             case NOT:
                 DocumentCondition documentCondition = document.get(DocumentCondition.class);
                 query.append("NOT (");
-                definesCondition(documentCondition, query, params, ++counter, ids);
+                definesCondition(documentCondition, query, ++counter, loadIds);
                 query.append(")");
                 return;
             default:
@@ -128,20 +237,12 @@ final class QueryOSQLConverter {
         return counter > 0 && !WHERE.equals(query.substring(query.length() - 7));
     }
 
-    private static void appendCondition(StringBuilder query, List<Object> params,
-                                        Document document, String condition, List<ORecordId> ids) {
-
-        if(OrientDBConverter.RID_FIELD.equals(document.getName())) {
-            ids.add(new ORecordId(document.get(String.class)));
+    private static void appendCondition(StringBuilder query, Document document, String condition, boolean loadIds) {
+        if (loadIds && OrientDBConverter.RID_FIELD.equals(document.getName())) {
             return;
         }
         query.append(document.getName())
                 .append(condition).append(PARAM_APPENDER);
-        if(IN.equals(condition)) {
-            params.add(ValueUtil.convertToList(document.getValue()));
-        } else {
-            params.add(document.get());
-        }
     }
 
     private static void appendSort(List<Sort> sorts, StringBuilder query) {
@@ -158,11 +259,11 @@ final class QueryOSQLConverter {
 
     private static void appendPagination(DocumentQuery documentQuery, StringBuilder query) {
         if (documentQuery.getSkip() > 0) {
-            query.append(SKIP).append(documentQuery.getSkip());
+            query.append(SKIP).append(PARAM_APPENDER);
         }
 
         if (documentQuery.getLimit() > 0) {
-            query.append(LIMIT).append(documentQuery.getLimit());
+            query.append(LIMIT).append(PARAM_APPENDER);
         }
     }
 
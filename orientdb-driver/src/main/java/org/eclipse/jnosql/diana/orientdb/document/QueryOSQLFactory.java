@@ -20,6 +20,7 @@ import com.orientechnologies.orient.core.id.ORecordId;
 import com.orientechnologies.orient.core.record.impl.ODocument;
 import com.orientechnologies.orient.core.sql.query.OSQLAsynchQuery;
 import com.orientechnologies.orient.core.sql.query.OSQLQuery;
+import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 
 import java.util.ArrayList;
@@ -41,6 +42,11 @@ final class QueryOSQLFactory {
         return new QueryResult(query.getQuery(), query.getParams(), query.getIds());
     }
 
+    static QueryResult toDelete(DocumentDeleteQuery documentQuery) {
+        QueryOSQLConverter.Query query = QueryOSQLConverter.delete(documentQuery);
+        return new QueryResult(query.getQuery(), query.getParams(), query.getIds());
+    }
+
     static QueryResultAsync toAsync(DocumentQuery documentQuery, Consumer<Stream<ODocument>> callBack) {
         QueryOSQLConverter.Query query = QueryOSQLConverter.select(documentQuery);
 
@@ -118,6 +124,10 @@ final class QueryOSQLFactory {
             return ids;
         }
 
+        String getLoadQuery() {
+            return QueryOSQLConverter.load(ids);
+        }
+
         public boolean isRunQuery() {
             return ids.isEmpty() || (!ids.isEmpty() && !params.isEmpty());
         }
@@ -15,6 +15,7 @@
  */
 package org.eclipse.jnosql.diana.orientdb.document;
 
+import com.orientechnologies.orient.core.db.ODatabaseType;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentDeleteQuery;
@@ -34,8 +35,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
@@ -56,6 +60,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 public class OrientDBDocumentCollectionManagerTest {
     public static final String COLLECTION_NAME = "person";
 
+    private static final int LIVE_EVENTS = 5;
+
     private OrientDBDocumentCollectionManager entityManager;
 
     @BeforeEach
@@ -113,6 +119,37 @@ public class OrientDBDocumentCollectionManagerTest {
         assertEquals(newField, updated.get().find(newField.getName()).get());
     }
 
+    @Test
+    public void shouldInsertInBatch() {
+        List<DocumentEntity> entities = getEntities();
+        Iterable<DocumentEntity> inserted = entityManager.insert(entities);
+        assertEquals(entities, inserted);
+        assertTrue(entities.stream().allMatch(e -> e.find(RID_FIELD).isPresent()));
+        assertTrue(entities.stream().allMatch(e -> e.find(OrientDBConverter.VERSION_FIELD).isPresent()));
+    }
+
+    @Test
+    public void shouldUpdateInBatchWithRetry() {
+        List<DocumentEntity> entities = getEntities();
+        entityManager.insert(entities);
+        Document newField = Documents.of("newField", "99");
+        entities.forEach(e -> {
+            e.add(Document.of(OrientDBConverter.VERSION_FIELD, 0));
+            e.add(newField);
+        });
+        entityManager.update(entities);
+
+        for (DocumentEntity entity : entities) {
+            Document id = entity.find(RID_FIELD).get();
+            DocumentQuery query = select().from(entity.getName())
+                    .where(id.getName()).eq(id.get())
+                    .build();
+            Optional<DocumentEntity> updated = entityManager.singleResult(query);
+            assertTrue(updated.isPresent());
+            assertEquals(newField, updated.get().find(newField.getName()).get());
+        }
+    }
+
     @Test
     public void shouldRemoveEntity() {
         DocumentEntity documentEntity = entityManager.insert(getEntity());
@@ -125,6 +162,30 @@ public class OrientDBDocumentCollectionManagerTest {
         assertTrue(entityManager.select(query).collect(Collectors.toList()).isEmpty());
     }
 
+    @Test
+    public void shouldRemoveEntityById() {
+        DocumentEntity documentEntity = entityManager.insert(getEntity());
+        Document id = documentEntity.find(RID_FIELD).get();
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+        assertTrue(entityManager.singleResult(query).isPresent());
+        entityManager.delete(deleteQuery);
+        assertFalse(entityManager.singleResult(query).isPresent());
+    }
+
+    @Test
+    public void shouldFindByIds() {
+        List<DocumentEntity> entities = new ArrayList<>();
+        entityManager.insert(getEntities()).forEach(entities::add);
+        List<String> ids = entities.stream().map(e -> e.find(RID_FIELD).get().get(String.class))
+                .collect(Collectors.toList());
+
+        DocumentQuery query = select().from(COLLECTION_NAME).where(RID_FIELD).in(ids).build();
+        List<DocumentEntity> found = entityManager.select(query).collect(Collectors.toList());
+        assertThat(found, containsInAnyOrder(entities.toArray()));
+    }
+
     @Test
     public void shouldFindDocument() {
         DocumentEntity entity = entityManager.insert(getEntity());
@@ -136,6 +197,29 @@ public class OrientDBDocumentCollectionManagerTest {
         assertThat(entities, contains(entity));
     }
 
+    @Test
+    public void shouldReleaseSessionWhenStreamIsClosed() {
+        entityManager.insert(getEntities());
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+        for (int index = 0; index < 100; index++) {
+            try (Stream<DocumentEntity> entities = entityManager.stream(query)) {
+                assertTrue(entities.findFirst().isPresent());
+            }
+        }
+        assertTrue(entityManager.count(COLLECTION_NAME) >= 3);
+    }
+
+    @Test
+    public void shouldStreamSQL() {
+        DocumentEntity entity = entityManager.insert(getEntity());
+        Optional<Document> id = entity.find("name");
+
+        try (Stream<DocumentEntity> entities = entityManager.stream("select * from person where name = ?",
+                id.get().get())) {
+            assertThat(entities.collect(Collectors.toList()), contains(entity));
+        }
+    }
+
     @Test
     public void shouldSQL() {
         DocumentEntity entity = entityManager.insert(getEntity());
@@ -459,6 +543,37 @@ public class OrientDBDocumentCollectionManagerTest {
         assertFalse(entities.isEmpty());
     }
 
+    @Test
+    public void shouldUnsubscribeLive() {
+        AtomicBoolean condition = new AtomicBoolean(false);
+        OrientDBLiveCreateCallback<DocumentEntity> callback = d -> condition.set(true);
+        DocumentQuery query = select().from(COLLECTION_NAME).build();
+
+        OrientDBLiveSubscription subscription = entityManager.live(query,
+                OrientDBLiveCallbackBuilder.builder().onCreate(callback).build());
+        assertTrue(subscription.isActive());
+        entityManager.insert(getEntity());
+        await().untilTrue(condition);
+        await().until(() -> subscription.getDelivered() > 0);
+        assertEquals(0L, subscription.getDropped());
+
+        subscription.unsubscribe();
+        assertFalse(subscription.isActive());
+        assertEquals(0, subscription.getPending());
+    }
+
+    @Test
+    public void shouldDropNewestLiveEventsWhenQueueIsFull() {
+        List<Integer> delivered = liveWithFullQueue(OrientDBLiveOverflow.DROP_NEWEST);
+        assertFalse(delivered.contains(LIVE_EVENTS - 1));
+    }
+
+    @Test
+    public void shouldDropOldestLiveEventsWhenQueueIsFull() {
+        List<Integer> delivered = liveWithFullQueue(OrientDBLiveOverflow.DROP_OLDEST);
+        assertEquals(LIVE_EVENTS - 1, delivered.get(delivered.size() - 1).intValue());
+    }
+
     @Test
     public void shouldConvertFromListSubdocumentList() {
         DocumentEntity entity = createSubdocumentList();
@@ -490,6 +605,47 @@ public class OrientDBDocumentCollectionManagerTest {
 
     }
 
+    private List<Integer> liveWithFullQueue(OrientDBLiveOverflow overflow) {
+        OrientDBDocumentConfiguration configuration = new OrientDBDocumentConfiguration();
+        configuration.setHost("/tmp/db/");
+        configuration.setUser("admin");
+        configuration.setPassword("admin");
+        configuration.setStorageType(ODatabaseType.MEMORY.toString());
+        configuration.setLiveQueueSize(1);
+        configuration.setLiveOverflow(overflow);
+
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        OrientDBLiveCreateCallback<DocumentEntity> callback = d -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(d.find("index").get().get(Integer.class));
+        };
+
+        try (OrientDBDocumentCollectionManagerFactory managerFactory = configuration.get();
+             OrientDBDocumentCollectionManager manager = managerFactory.get(Database.DATABASE)) {
+            DocumentQuery query = select().from(COLLECTION_NAME).build();
+            OrientDBLiveSubscription subscription = manager.live(query,
+                    OrientDBLiveCallbackBuilder.builder().onCreate(callback).build());
+            try {
+                for (int index = 0; index < LIVE_EVENTS; index++) {
+                    DocumentEntity entity = getEntity();
+                    entity.add(Document.of("index", index));
+                    manager.insert(entity);
+                }
+                await().until(() -> subscription.getDropped() >= LIVE_EVENTS - 2);
+            } finally {
+                release.countDown();
+            }
+            await().until(() -> subscription.getDelivered() + subscription.getDropped() == LIVE_EVENTS);
+            assertEquals(LIVE_EVENTS, delivered.size() + subscription.getDropped());
+        }
+        return delivered;
+    }
+
     private DocumentEntity createSubdocumentList() {
         DocumentEntity entity = DocumentEntity.of("AppointmentBook");
         entity.add(Document.of("_id", new Random().nextInt()));
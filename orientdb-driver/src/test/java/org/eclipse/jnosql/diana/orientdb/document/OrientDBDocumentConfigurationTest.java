@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.diana.orientdb.document;
 
+import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import jakarta.nosql.document.DocumentConfiguration;
 import jakarta.nosql.document.DocumentConfigurationAsync;
@@ -48,6 +49,24 @@ public class OrientDBDocumentConfigurationTest {
         assertThrows(NullPointerException.class, () -> new OrientDBDocumentConfiguration().get(null));
     }
 
+    @Test
+    public void shouldReturnErrorWhenBatchSizeIsNotPositive() {
+        OrientDBDocumentConfiguration configuration = new OrientDBDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.setBatchSize(0));
+        Settings settings = Settings.builder()
+                .put(OrientDBDocumentConfigurations.BATCH_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+    }
+
+    @Test
+    public void shouldReturnErrorWhenLiveQueueSizeIsNotPositive() {
+        OrientDBDocumentConfiguration configuration = new OrientDBDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.setLiveQueueSize(0));
+        Settings settings = Settings.builder()
+                .put(OrientDBDocumentConfigurations.LIVE_QUEUE_SIZE.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         DocumentConfiguration configuration = DocumentConfiguration.getConfiguration();
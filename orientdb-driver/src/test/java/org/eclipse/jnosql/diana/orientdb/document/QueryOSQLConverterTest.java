@@ -15,13 +15,19 @@
  */
 package org.eclipse.jnosql.diana.orientdb.document;
 
+import com.orientechnologies.orient.core.id.ORecordId;
+import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
 
+import static jakarta.nosql.document.DocumentDeleteQuery.delete;
 import static jakarta.nosql.document.DocumentQuery.select;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class QueryOSQLConverterTest {
 
@@ -103,7 +109,8 @@ public class QueryOSQLConverterTest {
                 .build();
 
         QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
-        assertEquals("SELECT FROM collection SKIP 10", convert.getQuery());
+        assertEquals("SELECT FROM collection SKIP ?", convert.getQuery());
+        assertEquals(asList(10L), convert.getParams());
     }
 
     @Test
@@ -113,7 +120,8 @@ public class QueryOSQLConverterTest {
                 .build();
 
         QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
-        assertEquals("SELECT FROM collection LIMIT 100", convert.getQuery());
+        assertEquals("SELECT FROM collection LIMIT ?", convert.getQuery());
+        assertEquals(asList(100L), convert.getParams());
     }
 
     @Test
@@ -124,7 +132,8 @@ public class QueryOSQLConverterTest {
                 .build();
 
         QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
-        assertEquals("SELECT FROM collection SKIP 10 LIMIT 100", convert.getQuery());
+        assertEquals("SELECT FROM collection SKIP ? LIMIT ?", convert.getQuery());
+        assertEquals(asList(10L, 100L), convert.getParams());
     }
 
     @Test
@@ -157,4 +166,92 @@ public class QueryOSQLConverterTest {
         QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
         assertEquals("SELECT FROM collection ORDER BY name ASC, age DESC", convert.getQuery());
     }
+
+    @Test
+    public void shouldConvertDelete() {
+        DocumentDeleteQuery query = delete().from("collection")
+                .where("name").eq("value")
+                .and("age").lte(10)
+                .build();
+
+        QueryOSQLConverter.Query convert = QueryOSQLConverter.delete(query);
+        List<Object> values = convert.getParams();
+        assertEquals("DELETE FROM collection WHERE name = ? AND age <= ?", convert.getQuery());
+        assertEquals("value", values.get(0));
+        assertEquals(10, values.get(1));
+    }
+
+    @Test
+    public void shouldConvertDeleteByRid() {
+        DocumentDeleteQuery query = delete().from("collection")
+                .where("@rid").in(asList("#12:0", "#12:1"))
+                .build();
+
+        QueryOSQLConverter.Query convert = QueryOSQLConverter.delete(query);
+        assertEquals("DELETE FROM collection WHERE @rid IN ?", convert.getQuery());
+        assertEquals(asList(new ORecordId("#12:0"), new ORecordId("#12:1")), convert.getParams().get(0));
+        assertTrue(convert.getIds().isEmpty());
+    }
+
+    @Test
+    public void shouldLoadRidsInOneQuery() {
+        String query = QueryOSQLConverter.load(asList(new ORecordId("#12:0"), new ORecordId("#12:1")));
+        assertEquals("SELECT FROM [#12:0, #12:1]", query);
+    }
+
+    @Test
+    public void shouldReuseStatementWithSameShape() {
+        DocumentQuery query = select().from("collection")
+                .where("name").eq("Ada")
+                .and("age").gt(10)
+                .orderBy("name").asc()
+                .build();
+        DocumentQuery query2 = select().from("collection")
+                .where("name").eq("Poliana")
+                .and("age").gt(20)
+                .orderBy("name").asc()
+                .build();
+
+        QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
+        QueryOSQLConverter.Query convert2 = QueryOSQLConverter.select(query2);
+        assertSame(convert.getQuery(), convert2.getQuery());
+        assertEquals(asList("Ada", 10), convert.getParams());
+        assertEquals(asList("Poliana", 20), convert2.getParams());
+    }
+
+    @Test
+    public void shouldReuseStatementWithDifferentPagination() {
+        DocumentQuery query = select().from("collection")
+                .where("name").eq("Ada")
+                .skip(10)
+                .limit(100)
+                .build();
+        DocumentQuery query2 = select().from("collection")
+                .where("name").eq("Ada")
+                .skip(20)
+                .limit(50)
+                .build();
+
+        QueryOSQLConverter.Query convert = QueryOSQLConverter.select(query);
+        QueryOSQLConverter.Query convert2 = QueryOSQLConverter.select(query2);
+        assertSame(convert.getQuery(), convert2.getQuery());
+        assertEquals("SELECT FROM collection WHERE name = ? SKIP ? LIMIT ?", convert.getQuery());
+        assertEquals(asList("Ada", 10L, 100L), convert.getParams());
+        assertEquals(asList("Ada", 20L, 50L), convert2.getParams());
+    }
+
+    @Test
+    public void shouldNotReuseStatementWithDifferentShape() {
+        DocumentQuery query = select().from("collection")
+                .where("name").eq("Ada")
+                .and("age").gt(10)
+                .build();
+        DocumentQuery query2 = select().from("collection")
+                .where("name").eq("Ada")
+                .or("age").gt(10)
+                .build();
+
+        assertEquals("SELECT FROM collection WHERE name = ? AND age > ?", QueryOSQLConverter.select(query).getQuery());
+        assertEquals("SELECT FROM collection WHERE name = ? OR age > ?", QueryOSQLConverter.select(query2).getQuery());
+    }
 }
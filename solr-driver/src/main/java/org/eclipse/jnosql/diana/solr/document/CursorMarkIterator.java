@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+import jakarta.nosql.document.DocumentEntity;
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.response.QueryResponse;
+import org.apache.solr.common.params.CursorMarkParams;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Walks through every document of a query following the Solr cursorMark one page at a time, the next page is
+ * requested only when the current one was consumed. The query must be sorted by the unique key, so the cursor is
+ * stable and a deep page costs the same as the first one.
+ */
+final class CursorMarkIterator implements Iterator<DocumentEntity> {
+
+    private final SolrClient solrClient;
+
+    private final SolrQuery query;
+
+    private final int pageSize;
+
+    private long remaining;
+
+    private String cursorMark = CursorMarkParams.CURSOR_MARK_START;
+
+    private Iterator<DocumentEntity> page = Collections.emptyIterator();
+
+    private boolean finished;
+
+    CursorMarkIterator(SolrClient solrClient, SolrQuery query, int pageSize, long remaining) {
+        this.solrClient = solrClient;
+        this.query = query;
+        this.pageSize = pageSize;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !finished && remaining > 0) {
+            fetch();
+        }
+        return remaining > 0 && page.hasNext();
+    }
+
+    @Override
+    public DocumentEntity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more documents at the query");
+        }
+        remaining--;
+        return page.next();
+    }
+
+    Stream<DocumentEntity> stream() {
+        Spliterator<DocumentEntity> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private void fetch() {
+        query.setRows((int) Math.min(pageSize, remaining));
+        query.set(CursorMarkParams.CURSOR_MARK_PARAM, cursorMark);
+        try {
+            QueryResponse response = solrClient.query(query);
+            page = SolrUtils.of(response.getResults()).iterator();
+            String nextCursorMark = response.getNextCursorMark();
+            finished = cursorMark.equals(nextCursorMark);
+            cursorMark = nextCursorMark;
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to query at Solr", e);
+        }
+    }
+}
@@ -18,21 +18,23 @@ package org.eclipse.jnosql.diana.solr.document;
 import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentEntity;
 import jakarta.nosql.document.DocumentQuery;
+import org.apache.solr.client.solrj.SolrClient;
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.SolrQuery.SortClause;
 import org.apache.solr.client.solrj.SolrServerException;
+import org.apache.solr.client.solrj.impl.ConcurrentUpdateSolrClient;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
+import org.apache.solr.client.solrj.response.FacetField;
 import org.apache.solr.client.solrj.response.QueryResponse;
 import org.apache.solr.common.SolrDocumentList;
 import org.apache.solr.common.SolrInputDocument;
-import org.eclipse.jnosql.diana.SettingsPriority;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -45,10 +47,20 @@ import static org.eclipse.jnosql.diana.solr.document.SolrUtils.getDocument;
  */
 class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionManager {
 
+    private static final String ALL_DOCUMENTS = "*:*";
+
+    private static final int NO_FACET_LIMIT = -1;
+
     private final HttpSolrClient solrClient;
 
-    DefaultSolrDocumentCollectionManager(HttpSolrClient solrClient) {
+    private final SolrClient updateClient;
+
+    private final SolrCommit commit;
+
+    DefaultSolrDocumentCollectionManager(HttpSolrClient solrClient, SolrClient updateClient, SolrCommit commit) {
         this.solrClient = solrClient;
+        this.updateClient = updateClient;
+        this.commit = commit;
     }
 
 
@@ -57,8 +69,8 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         Objects.requireNonNull(entity, "entity is required");
 
         try {
-            solrClient.add(getDocument(entity));
-            commit();
+            updateClient.add(getDocument(entity), commit.getCommitWithin());
+            commit.commit(updateClient);
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
         }
@@ -73,11 +85,17 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     @Override
     public Iterable<DocumentEntity> insert(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        final List<SolrInputDocument> documents = StreamSupport.stream(entities.spliterator(), false)
-                .map(SolrUtils::getDocument).collect(toList());
         try {
-            solrClient.add(documents);
-            commit();
+            if (updateClient instanceof ConcurrentUpdateSolrClient) {
+                for (DocumentEntity entity : entities) {
+                    updateClient.add(getDocument(entity), commit.getCommitWithin());
+                }
+            } else {
+                final List<SolrInputDocument> documents = StreamSupport.stream(entities.spliterator(), false)
+                        .map(SolrUtils::getDocument).collect(toList());
+                updateClient.add(documents, commit.getCommitWithin());
+            }
+            commit.commit(updateClient);
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to insert/update a information", e);
         }
@@ -102,9 +120,7 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     @Override
     public Iterable<DocumentEntity> update(Iterable<DocumentEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(toList());
+        return insert(entities);
     }
 
 
@@ -112,8 +128,8 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     public void delete(DocumentDeleteQuery query) {
         Objects.requireNonNull(query, "query is required");
         try {
-            solrClient.deleteByQuery(DocumentQueryConversor.convert(query));
-            commit();
+            updateClient.deleteByQuery(DocumentQueryConversor.convert(query), commit.getCommitWithin());
+            commit.commit(updateClient);
         } catch (SolrServerException | IOException e) {
             throw new SolrException("Error to delete at Solr", e);
         }
@@ -123,19 +139,13 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
     public Stream<DocumentEntity> select(DocumentQuery query) {
         Objects.requireNonNull(query, "query is required");
         try {
-            SolrQuery solrQuery = new SolrQuery();
-            final String queryExpression = DocumentQueryConversor.convert(query);
-            solrQuery.set("q", queryExpression);
+            SolrQuery solrQuery = toSolrQuery(query);
             if (query.getSkip() > 0) {
                 solrQuery.setStart((int) query.getSkip());
             }
             if (query.getLimit() > 0) {
                 solrQuery.setRows((int) query.getLimit());
             }
-            final List<SortClause> sorts = query.getSorts().stream()
-                    .map(s -> new SortClause(s.getName(), s.getType().name().toLowerCase(Locale.US)))
-                    .collect(toList());
-            solrQuery.setSorts(sorts);
             final QueryResponse response = solrClient.query(solrQuery);
             final SolrDocumentList documents = response.getResults();
             return SolrUtils.of(documents).stream();
@@ -144,13 +154,27 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
         }
     }
 
+    @Override
+    public Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize) {
+        Objects.requireNonNull(query, "query is required");
+        checkPageSize(pageSize);
+        SolrQuery solrQuery = toSolrQuery(query);
+        boolean sortedById = query.getSorts().stream().anyMatch(s -> SolrUtils.ID.equals(s.getName()));
+        if (!sortedById) {
+            solrQuery.addSort(SolrUtils.ID, SolrQuery.ORDER.asc);
+        }
+        long remaining = query.getLimit() > 0 ? query.getSkip() + query.getLimit() : Long.MAX_VALUE;
+        return new CursorMarkIterator(solrClient, solrQuery, pageSize, remaining).stream()
+                .skip(query.getSkip());
+    }
+
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
 
         try {
-            SolrQuery solrQuery = new SolrQuery();
-            solrQuery.set("q", "_entity:" + documentCollection);
+            SolrQuery solrQuery = new SolrQuery(ALL_DOCUMENTS);
+            solrQuery.addFilterQuery(SolrUtils.ENTITY + ':' + documentCollection);
             solrQuery.setRows(0);
             final QueryResponse response = solrClient.query(solrQuery);
             return response.getResults().getNumFound();
@@ -161,49 +185,122 @@ class DefaultSolrDocumentCollectionManager implements SolrDocumentCollectionMana
 
     @Override
     public void close() {
-
-    }
-
-    private void commit() {
-        if (isAutomaticCommit()) {
+        try {
+            if (updateClient instanceof ConcurrentUpdateSolrClient) {
+                ConcurrentUpdateSolrClient.class.cast(updateClient).blockUntilFinished();
+            }
+        } finally {
             try {
-                solrClient.commit();
-            } catch (SolrServerException | IOException e) {
-                throw new SolrException("Error to commit at Solr", e);
+                if (updateClient != solrClient) {
+                    updateClient.close();
+                }
+                solrClient.close();
+            } catch (IOException e) {
+                throw new SolrException("Error to close the client at Solr", e);
             }
         }
     }
 
-    private Boolean isAutomaticCommit() {
-        return SettingsPriority.get("jakarta.nosql.transaction")
-                .map(Object::toString)
-                .map(Boolean::parseBoolean).orElse(true);
+    @Override
+    public void commit() {
+        try {
+            updateClient.commit();
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to commit at Solr", e);
+        }
     }
 
 
     @Override
-    public List<DocumentEntity> solr(String query) {
+    public Map<String, Map<String, Long>> facet(DocumentQuery query, String... fields) {
         Objects.requireNonNull(query, "query is required");
+        checkFields(fields);
+        SolrQuery solrQuery = toSolrQuery(query);
+        solrQuery.setRows(0);
+        solrQuery.addFacetField(fields);
+        solrQuery.setFacetMinCount(1);
+        solrQuery.setFacetLimit(query.getLimit() > 0 ? (int) query.getLimit() : NO_FACET_LIMIT);
+        try {
+            final QueryResponse response = solrClient.query(solrQuery);
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            for (FacetField facetField : response.getFacetFields()) {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                facetField.getValues().forEach(c -> counts.put(c.getName(), c.getCount()));
+                facets.put(facetField.getName(), counts);
+            }
+            return facets;
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to execute facet at Solr", e);
+        }
+    }
 
+    @Override
+    public Map<String, SolrFieldStats> stats(DocumentQuery query, String... fields) {
+        Objects.requireNonNull(query, "query is required");
+        checkFields(fields);
+        SolrQuery solrQuery = toSolrQuery(query);
+        solrQuery.setRows(0);
+        for (String field : fields) {
+            solrQuery.setGetFieldStatistics(field);
+        }
         try {
-            SolrQuery solrQuery = new SolrQuery();
-            solrQuery.set("q", query);
             final QueryResponse response = solrClient.query(solrQuery);
-            final SolrDocumentList documents = response.getResults();
-            return SolrUtils.of(documents);
+            Map<String, SolrFieldStats> stats = new LinkedHashMap<>();
+            response.getFieldStatsInfo().forEach((k, v) -> stats.put(k, SolrFieldStats.of(v)));
+            return stats;
         } catch (SolrServerException | IOException e) {
-            throw new SolrException("Error to execute native query at Solr query: " + query, e);
+            throw new SolrException("Error to execute stats at Solr", e);
+        }
+    }
+
+    private SolrQuery toSolrQuery(DocumentQuery query) {
+        SolrQuery solrQuery = new SolrQuery(DocumentQueryConversor.query(query));
+        DocumentQueryConversor.filters(query).forEach(solrQuery::addFilterQuery);
+        if (!query.getDocuments().isEmpty()) {
+            solrQuery.setFields(query.getDocuments().toArray(new String[0]));
+            solrQuery.addField(SolrUtils.ENTITY);
+        }
+        final List<SortClause> sorts = query.getSorts().stream()
+                .map(s -> new SortClause(s.getName(), s.getType().name().toLowerCase(Locale.US)))
+                .collect(toList());
+        solrQuery.setSorts(sorts);
+        return solrQuery;
+    }
+
+    private void checkFields(String[] fields) {
+        Objects.requireNonNull(fields, "fields is required");
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+    }
+
+    private void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be greater than zero");
         }
     }
 
+    @Override
+    public List<DocumentEntity> solr(String query) {
+        Objects.requireNonNull(query, "query is required");
+
+        return solr(new SolrQuery(query), query);
+    }
+
     @Override
     public List<DocumentEntity> solr(String query, Map<String, ? extends Object> params) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(params, "params is required");
-        String nativeQuery = query;
-        for (Entry<String, ? extends Object> entry : params.entrySet()) {
-            nativeQuery = nativeQuery.replace('@' + entry.getKey(), entry.getValue().toString());
+        return solr(SolrQueryTemplate.of(query).bind(params), query);
+    }
+
+    private List<DocumentEntity> solr(SolrQuery solrQuery, String query) {
+        try {
+            final QueryResponse response = solrClient.query(solrQuery);
+            final SolrDocumentList documents = response.getResults();
+            return SolrUtils.of(documents);
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to execute native query at Solr query: " + query, e);
         }
-        return solr(nativeQuery);
     }
 }
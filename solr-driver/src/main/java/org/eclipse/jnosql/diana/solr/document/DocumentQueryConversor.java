@@ -16,6 +16,7 @@
 package org.eclipse.jnosql.diana.solr.document;
 
 
+import jakarta.nosql.Condition;
 import jakarta.nosql.TypeReference;
 import jakarta.nosql.document.Document;
 import jakarta.nosql.document.DocumentCondition;
@@ -23,6 +24,8 @@ import jakarta.nosql.document.DocumentDeleteQuery;
 import jakarta.nosql.document.DocumentQuery;
 import org.eclipse.jnosql.diana.driver.ValueUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,15 +33,42 @@ final class DocumentQueryConversor {
 
     private static final String SELECT_ALL_QUERY = "_entity:";
 
+    private static final String ALL_DOCUMENTS = "*:*";
+
     private DocumentQueryConversor() {
     }
 
 
-    static String convert(DocumentQuery query) {
-        String rootCondition = SolrUtils.ENTITY + ':' + query.getDocumentCollection();
-        return rootCondition + query.getCondition()
+    /**
+     * Returns the main query: the clauses of the root AND condition that have a LIKE, so they keep scoring the
+     * documents and the results keep the relevance order, or every document when there is none
+     *
+     * @param query the query
+     * @return the main query
+     */
+    static String query(DocumentQuery query) {
+        String scoring = getRootConditions(query).stream()
+                .filter(DocumentQueryConversor::isScoring)
                 .map(DocumentQueryConversor::convert)
-                .map(s -> " AND " + s).orElse("");
+                .collect(Collectors.joining(" AND "));
+        return scoring.isEmpty() ? ALL_DOCUMENTS : scoring;
+    }
+
+    /**
+     * Splits the remaining of the query into filter queries: the entity restriction and one for each clause of the
+     * root AND condition without a LIKE, so Solr caches them independently at the filter cache
+     *
+     * @param query the query
+     * @return the filter queries
+     */
+    static List<String> filters(DocumentQuery query) {
+        List<String> filters = new ArrayList<>();
+        filters.add(SolrUtils.ENTITY + ':' + query.getDocumentCollection());
+        getRootConditions(query).stream()
+                .filter(condition -> !isScoring(condition))
+                .map(DocumentQueryConversor::convert)
+                .forEach(filters::add);
+        return filters;
     }
 
     static String convert(DocumentDeleteQuery query) {
@@ -84,6 +114,27 @@ final class DocumentQueryConversor {
         }
     }
 
+    private static List<DocumentCondition> getRootConditions(DocumentQuery query) {
+        return query.getCondition().map(condition -> {
+            if (Condition.AND.equals(condition.getCondition())) {
+                return getDocumentConditions(condition);
+            }
+            return Collections.singletonList(condition);
+        }).orElse(Collections.emptyList());
+    }
+
+    private static boolean isScoring(DocumentCondition condition) {
+        switch (condition.getCondition()) {
+            case LIKE:
+                return true;
+            case AND:
+            case OR:
+                return getDocumentConditions(condition).stream().anyMatch(DocumentQueryConversor::isScoring);
+            default:
+                return false;
+        }
+    }
+
     private static List<DocumentCondition> getDocumentConditions(DocumentCondition condition) {
         return condition.getDocument().getValue().get(new TypeReference<List<DocumentCondition>>() {
         });
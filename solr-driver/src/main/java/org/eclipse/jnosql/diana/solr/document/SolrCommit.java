@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+import org.apache.solr.client.solrj.SolrClient;
+import org.apache.solr.client.solrj.SolrServerException;
+
+import java.io.IOException;
+
+/**
+ * Applies a {@link SolrCommitStrategy} to the changes of a manager.
+ */
+final class SolrCommit {
+
+    private static final int NO_COMMIT_WITHIN = -1;
+
+    private final SolrCommitStrategy strategy;
+
+    private final int commitWithin;
+
+    SolrCommit(SolrCommitStrategy strategy, int commitWithin) {
+        this.strategy = strategy;
+        this.commitWithin = commitWithin;
+    }
+
+    /**
+     * The commitWithin, in milliseconds, to send with the changes, -1 when the strategy is not
+     * {@link SolrCommitStrategy#WITHIN}
+     *
+     * @return the commitWithin
+     */
+    int getCommitWithin() {
+        return SolrCommitStrategy.WITHIN.equals(strategy) ? commitWithin : NO_COMMIT_WITHIN;
+    }
+
+    void commit(SolrClient solrClient) {
+        try {
+            switch (strategy) {
+                case HARD:
+                    solrClient.commit();
+                    return;
+                case SOFT:
+                    solrClient.commit(true, true, true);
+                    return;
+                default:
+            }
+        } catch (SolrServerException | IOException e) {
+            throw new SolrException("Error to commit at Solr", e);
+        }
+    }
+}
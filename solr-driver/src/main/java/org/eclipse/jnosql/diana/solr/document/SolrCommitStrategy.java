@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+/**
+ * Defines when the changes sent by {@link SolrDocumentCollectionManager} become visible to the queries.
+ *
+ * @see SolrDocumentConfiguration#setCommitStrategy(SolrCommitStrategy)
+ */
+public enum SolrCommitStrategy {
+    /**
+     * A hard commit after each insert, update and delete, the changes are flushed to the disk
+     */
+    HARD,
+    /**
+     * A soft commit after each insert, update and delete, the changes are visible without flushing to the disk
+     */
+    SOFT,
+    /**
+     * No commit is sent, each change is sent with commitWithin, so Solr commits it within the defined time
+     */
+    WITHIN,
+    /**
+     * No commit is sent, the changes are visible once {@link SolrDocumentCollectionManager#commit()} is called
+     * or by the Solr auto commit configuration
+     */
+    MANUAL
+}
@@ -16,14 +16,21 @@ package org.eclipse.jnosql.diana.solr.document;
 
 import jakarta.nosql.document.DocumentCollectionManager;
 import jakarta.nosql.document.DocumentEntity;
+import jakarta.nosql.document.DocumentQuery;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * The solr implementation to {@link DocumentCollectionManager} that does not support TTL methods
  * <p>{@link DefaultSolrDocumentCollectionManager#insert(DocumentEntity, Duration)}</p>
+ * The changes are committed following the {@link SolrCommitStrategy} defined at {@link SolrDocumentConfiguration},
+ * a group of entities is sent in a single request followed by a single commit.
+ * The conditions of a query are sent as filter queries, so Solr caches each one of them, except the LIKE ones that
+ * stay at the main query, so they score the documents and the results keep the relevance order when the query
+ * has no sort. The documents selected by {@link DocumentQuery#getDocuments()} become the field list.
  */
 public interface SolrDocumentCollectionManager extends DocumentCollectionManager {
 
@@ -37,7 +44,9 @@ public interface SolrDocumentCollectionManager extends DocumentCollectionManager
     List<DocumentEntity> solr(String query);
 
     /**
-     * Executes a Solr native query with params.
+     * Executes a Solr native query with params. Each @name at the query is bound to the param name: the value is
+     * escaped and sent as a separated request parameter that Solr expands on the server, so the query text stays
+     * the same between executions and is parsed once by the driver. A @name without param keeps its text.
      *
      * @param query  the query
      * @param params the params
@@ -45,4 +54,55 @@ public interface SolrDocumentCollectionManager extends DocumentCollectionManager
      * @throws NullPointerException when there is null parameter
      */
     List<DocumentEntity> solr(String query, Map<String, ? extends Object> params);
+
+    /**
+     * Reads every document of the query following the Solr cursorMark, one page per request. Unlike the start
+     * parameter used by {@link SolrDocumentCollectionManager#select(DocumentQuery)}, a
+     * deep page costs the same as the first one. The sorts of the query are kept and the unique key, id, is added
+     * as the last one when it is missing, so the cursor is stable; the query limit, when defined, is the total
+     * across pages and the skip is applied on the client side.
+     *
+     * @param query    the query
+     * @param pageSize the number of documents requested at each page
+     * @return a lazy stream, the next page is requested only when the current one was consumed
+     * @throws NullPointerException     when query is null
+     * @throws IllegalArgumentException when pageSize is negative or zero
+     * @throws SolrException            when a page request fails
+     */
+    Stream<DocumentEntity> paginate(DocumentQuery query, int pageSize);
+
+    /**
+     * Counts the documents that match the query by each value of the fields, the values are sorted by the count
+     * and the values without documents are not returned. The query limit is reused as the facet limit, the
+     * maximum number of values by field; without a limit every value is returned instead of the Solr default of
+     * 100.
+     *
+     * @param query  the query, converted the same way as at select
+     * @param fields the fields
+     * @return the counts by value grouped by field, the maps keep the order Solr returns
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when fields is empty
+     * @throws SolrException            when the request fails
+     */
+    Map<String, Map<String, Long>> facet(DocumentQuery query, String... fields);
+
+    /**
+     * Returns the statistics of the fields over the documents that match the query
+     *
+     * @param query  the query, converted the same way as at select
+     * @param fields the fields
+     * @return the statistics grouped by field
+     * @throws NullPointerException     when there is null parameter
+     * @throws IllegalArgumentException when fields is empty
+     * @throws SolrException            when the request fails
+     */
+    Map<String, SolrFieldStats> stats(DocumentQuery query, String... fields);
+
+    /**
+     * Sends a hard commit, so every change sent so far becomes visible and is flushed to the disk.
+     * It is the way to make the changes visible when the commit strategy is {@link SolrCommitStrategy#MANUAL}.
+     *
+     * @throws SolrException when the commit fails
+     */
+    void commit();
 }
@@ -21,21 +21,38 @@ import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import java.util.Objects;
 
 /**
- * The solr implementation to {@link DocumentCollectionManagerFactory}
+ * The solr implementation to {@link DocumentCollectionManagerFactory}.
+ * When the ingestion mode is enabled each manager sends its changes through a {@link SolrIngestionClient}, while
+ * the queries keep using a {@link HttpSolrClient}.
  */
 public class SolrDocumentCollectionManagerFactory implements DocumentCollectionManagerFactory {
 
     private final HttpSolrClient solrClient;
 
-    SolrDocumentCollectionManagerFactory(HttpSolrClient solrClient) {
+    private final SolrCommit commit;
+
+    private final int ingestionQueueSize;
+
+    private final int ingestionThreads;
+
+    SolrDocumentCollectionManagerFactory(HttpSolrClient solrClient, SolrCommit commit,
+                                         int ingestionQueueSize, int ingestionThreads) {
         this.solrClient = solrClient;
+        this.commit = commit;
+        this.ingestionQueueSize = ingestionQueueSize;
+        this.ingestionThreads = ingestionThreads;
     }
 
     @Override
     public SolrDocumentCollectionManager get(String database) {
         Objects.requireNonNull(database, "database is required");
         final String baseURL = solrClient.getBaseURL() + '/' + database;
-        return new DefaultSolrDocumentCollectionManager(new HttpSolrClient.Builder(baseURL).build());
+        final HttpSolrClient client = new HttpSolrClient.Builder(baseURL).build();
+        if (ingestionQueueSize > 0) {
+            return new DefaultSolrDocumentCollectionManager(client,
+                    SolrIngestionClient.of(baseURL, ingestionQueueSize, ingestionThreads), commit);
+        }
+        return new DefaultSolrDocumentCollectionManager(client, client, commit);
     }
 
 
@@ -19,11 +19,14 @@ import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.apache.solr.client.solrj.impl.HttpSolrClient;
 import org.apache.solr.client.solrj.impl.XMLResponseParser;
+import org.eclipse.jnosql.diana.SettingsPriority;
 import org.eclipse.jnosql.diana.driver.ConfigurationReader;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
@@ -33,6 +36,14 @@ import static java.util.Objects.requireNonNull;
  * that returns  {@link SolrDocumentCollectionManagerFactory}
  * It tries to read the diana-solr.properties file whose has the following properties
  * <p>solr.server.host.: as prefix to add host client, eg: solr.server.host.1=host1, solr.server.host.2= host2</p>
+ * <p>solr.commit.strategy: the {@link SolrCommitStrategy}, the default value is HARD, or MANUAL when
+ * jakarta.nosql.transaction is false</p>
+ * <p>solr.commit.within: the commitWithin in milliseconds used by the WITHIN strategy, the default value is
+ * 1000</p>
+ * <p>solr.ingestion.queue.size: enables the ingestion mode, the number of pending requests each update client
+ * keeps queued</p>
+ * <p>solr.ingestion.threads: enables the ingestion mode, the number of threads, and connections, each update
+ * client uses to send the changes, the default value is 2</p>
  */
 public class SolrDocumentConfiguration implements DocumentConfiguration {
 
@@ -41,6 +52,65 @@ public class SolrDocumentConfiguration implements DocumentConfiguration {
 
     private static final String DEFAULT_HOST = "http://localhost:8983/solr/";
 
+    private static final Duration DEFAULT_COMMIT_WITHIN = Duration.ofSeconds(1);
+
+    private static final int DEFAULT_INGESTION_QUEUE_SIZE = 1000;
+
+    private static final int DEFAULT_INGESTION_THREADS = 2;
+
+    private SolrCommitStrategy commitStrategy;
+
+    private Duration commitWithin = DEFAULT_COMMIT_WITHIN;
+
+    private int ingestionQueueSize;
+
+    private int ingestionThreads = DEFAULT_INGESTION_THREADS;
+
+    /**
+     * Defines when the changes become visible to the queries
+     *
+     * @param commitStrategy the commit strategy
+     * @throws NullPointerException when commitStrategy is null
+     */
+    public void setCommitStrategy(SolrCommitStrategy commitStrategy) {
+        this.commitStrategy = requireNonNull(commitStrategy, "commitStrategy is required");
+    }
+
+    /**
+     * Defines the time Solr has to commit a change when the strategy is {@link SolrCommitStrategy#WITHIN}
+     *
+     * @param commitWithin the commitWithin
+     * @throws NullPointerException     when commitWithin is null
+     * @throws IllegalArgumentException when commitWithin is negative or zero
+     */
+    public void setCommitWithin(Duration commitWithin) {
+        requireNonNull(commitWithin, "commitWithin is required");
+        if (commitWithin.isNegative() || commitWithin.isZero()) {
+            throw new IllegalArgumentException("The commitWithin must be greater than zero");
+        }
+        this.commitWithin = commitWithin;
+    }
+
+    /**
+     * Enables the ingestion mode: the changes are queued and streamed to Solr, in the javabin format, by a pool
+     * of threads over concurrent connections instead of being sent in a single blocking request. The memory is
+     * bounded by the queue size, and an error is thrown at the next commit or when the manager is closed.
+     *
+     * @param queueSize   the number of pending requests
+     * @param threadCount the number of threads that send the requests
+     * @throws IllegalArgumentException when queueSize or threadCount is negative or zero
+     */
+    public void setIngestion(int queueSize, int threadCount) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("The queueSize must be greater than zero");
+        }
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException("The threadCount must be greater than zero");
+        }
+        this.ingestionQueueSize = queueSize;
+        this.ingestionThreads = threadCount;
+    }
+
     /**
      * Creates a {@link SolrDocumentCollectionManagerFactory} from mongoClient
      *
@@ -50,7 +120,7 @@ public class SolrDocumentConfiguration implements DocumentConfiguration {
      */
     public SolrDocumentCollectionManagerFactory get(HttpSolrClient solrClient) throws NullPointerException {
         requireNonNull(solrClient, "solrClient is required");
-        return new SolrDocumentCollectionManagerFactory(solrClient);
+        return getFactory(solrClient, Settings.builder().build());
     }
 
     @Override
@@ -70,8 +140,47 @@ public class SolrDocumentConfiguration implements DocumentConfiguration {
 
         final HttpSolrClient solrClient = new HttpSolrClient.Builder(host).build();
         solrClient.setParser(new XMLResponseParser());
-        return new SolrDocumentCollectionManagerFactory(solrClient);
+        return getFactory(solrClient, settings);
+
+    }
+
+    private SolrDocumentCollectionManagerFactory getFactory(HttpSolrClient solrClient, Settings settings) {
+        Optional<Integer> queueSize = settings.get(SolrDocumentConfigurations.INGESTION_QUEUE_SIZE.get())
+                .map(Object::toString)
+                .map(Integer::valueOf);
+        Optional<Integer> threads = settings.get(SolrDocumentConfigurations.INGESTION_THREADS.get())
+                .map(Object::toString)
+                .map(Integer::valueOf);
+        int ingestionQueue = queueSize.orElse(threads.isPresent() ? DEFAULT_INGESTION_QUEUE_SIZE :
+                ingestionQueueSize);
+        return new SolrDocumentCollectionManagerFactory(solrClient, getCommit(settings), ingestionQueue,
+                threads.orElse(ingestionThreads));
+    }
+
+    private SolrCommit getCommit(Settings settings) {
+        SolrCommitStrategy strategy = settings.get(SolrDocumentConfigurations.COMMIT_STRATEGY.get())
+                .map(Object::toString)
+                .map(String::toUpperCase)
+                .map(SolrCommitStrategy::valueOf)
+                .orElseGet(this::getCommitStrategy);
+        int within = settings.get(SolrDocumentConfigurations.COMMIT_WITHIN.get())
+                .map(Object::toString)
+                .map(Integer::valueOf)
+                .orElse((int) commitWithin.toMillis());
+        if (within <= 0) {
+            throw new IllegalArgumentException("The commitWithin must be greater than zero");
+        }
+        return new SolrCommit(strategy, within);
+    }
 
+    private SolrCommitStrategy getCommitStrategy() {
+        if (commitStrategy != null) {
+            return commitStrategy;
+        }
+        boolean automaticCommit = SettingsPriority.get("jakarta.nosql.transaction")
+                .map(Object::toString)
+                .map(Boolean::parseBoolean).orElse(true);
+        return automaticCommit ? SolrCommitStrategy.HARD : SolrCommitStrategy.MANUAL;
     }
 
 
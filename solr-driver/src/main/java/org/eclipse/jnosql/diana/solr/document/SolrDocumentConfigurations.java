@@ -20,7 +20,11 @@ import java.util.function.Supplier;
 public enum SolrDocumentConfigurations implements Supplier<String> {
     HOST("solr.host"),
     USER("solr.user"),
-    PASSWORD("solr.password");
+    PASSWORD("solr.password"),
+    COMMIT_STRATEGY("solr.commit.strategy"),
+    COMMIT_WITHIN("solr.commit.within"),
+    INGESTION_QUEUE_SIZE("solr.ingestion.queue.size"),
+    INGESTION_THREADS("solr.ingestion.threads");
 
     private final String configuration;
 
@@ -0,0 +1,160 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+import org.apache.solr.client.solrj.response.FieldStatsInfo;
+
+import java.util.Objects;
+
+/**
+ * The statistics Solr computes for a field over the documents that match a query, the values of min, max, sum
+ * and mean follow the field type, e.g. a numeric field returns {@link Double}.
+ *
+ * @see SolrDocumentCollectionManager#stats(jakarta.nosql.document.DocumentQuery, String...)
+ */
+public final class SolrFieldStats {
+
+    private final String name;
+
+    private final Object min;
+
+    private final Object max;
+
+    private final Object sum;
+
+    private final Object mean;
+
+    private final long count;
+
+    private final long missing;
+
+    private SolrFieldStats(String name, Object min, Object max, Object sum, Object mean, long count, long missing) {
+        this.name = name;
+        this.min = min;
+        this.max = max;
+        this.sum = sum;
+        this.mean = mean;
+        this.count = count;
+        this.missing = missing;
+    }
+
+    /**
+     * The field name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * The lowest value of the field
+     *
+     * @return the min, null when no document has the field
+     */
+    public Object getMin() {
+        return min;
+    }
+
+    /**
+     * The highest value of the field
+     *
+     * @return the max, null when no document has the field
+     */
+    public Object getMax() {
+        return max;
+    }
+
+    /**
+     * The sum of the values, it is null to fields that are not numeric
+     *
+     * @return the sum
+     */
+    public Object getSum() {
+        return sum;
+    }
+
+    /**
+     * The mean of the values
+     *
+     * @return the mean
+     */
+    public Object getMean() {
+        return mean;
+    }
+
+    /**
+     * The number of documents that have the field
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * The number of documents that do not have the field
+     *
+     * @return the missing
+     */
+    public long getMissing() {
+        return missing;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SolrFieldStats that = (SolrFieldStats) o;
+        return count == that.count &&
+                missing == that.missing &&
+                Objects.equals(name, that.name) &&
+                Objects.equals(min, that.min) &&
+                Objects.equals(max, that.max) &&
+                Objects.equals(sum, that.sum) &&
+                Objects.equals(mean, that.mean);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, min, max, sum, mean, count, missing);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("SolrFieldStats{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", min=").append(min);
+        sb.append(", max=").append(max);
+        sb.append(", sum=").append(sum);
+        sb.append(", mean=").append(mean);
+        sb.append(", count=").append(count);
+        sb.append(", missing=").append(missing);
+        sb.append('}');
+        return sb.toString();
+    }
+
+    static SolrFieldStats of(FieldStatsInfo info) {
+        long count = info.getCount() == null ? 0L : info.getCount();
+        long missing = info.getMissing() == null ? 0L : info.getMissing();
+        return new SolrFieldStats(info.getName(), info.getMin(), info.getMax(), info.getSum(), info.getMean(),
+                count, missing);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+import org.apache.solr.client.solrj.impl.BinaryRequestWriter;
+import org.apache.solr.client.solrj.impl.ConcurrentUpdateSolrClient;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The update client of the ingestion mode. The documents are kept in a bounded queue and written, in the javabin
+ * format, by a pool of threads that stream them to Solr over concurrent connections, so a large batch is
+ * neither serialized in memory nor sent in a single blocking request. The requests run in the background, so the
+ * first failure is kept and thrown once the queue is flushed: at a commit or when the client is closed.
+ */
+final class SolrIngestionClient extends ConcurrentUpdateSolrClient {
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private SolrIngestionClient(Builder builder) {
+        super(builder);
+        setRequestWriter(new BinaryRequestWriter());
+    }
+
+    @Override
+    public void handleError(Throwable ex) {
+        super.handleError(ex);
+        failure.compareAndSet(null, ex);
+    }
+
+    @Override
+    public synchronized void blockUntilFinished() {
+        super.blockUntilFinished();
+        Throwable ex = failure.getAndSet(null);
+        if (ex != null) {
+            throw new SolrException("Error to send the changes to Solr", ex);
+        }
+    }
+
+    static SolrIngestionClient of(String baseURL, int queueSize, int threadCount) {
+        Builder builder = new Builder(baseURL)
+                .withQueueSize(queueSize)
+                .withThreadCount(threadCount);
+        return new SolrIngestionClient(builder);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2019 Otávio Santana and others
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+
+package org.eclipse.jnosql.diana.solr.document;
+
+import org.apache.solr.client.solrj.SolrQuery;
+import org.apache.solr.client.solrj.util.ClientUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A native query whose @name placeholders are bound as request parameters. Each placeholder becomes a Solr macro,
+ * ${param.name:@name}, so the query text is parsed once, kept at a cache, and sent as it is while the escaped
+ * values travel as separated parameters that Solr expands on the server. A placeholder without value keeps its
+ * text, e.g. the domain of an email.
+ */
+final class SolrQueryTemplate {
+
+    static final String PARAM_PREFIX = "param.";
+
+    private static final int TEMPLATES_SIZE = 500;
+
+    private static final Map<String, SolrQueryTemplate> TEMPLATES = Collections.synchronizedMap(
+            new LinkedHashMap<String, SolrQueryTemplate>(16, 0.75F, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SolrQueryTemplate> eldest) {
+                    return size() > TEMPLATES_SIZE;
+                }
+            });
+
+    private final String query;
+
+    private final Set<String> params;
+
+    private SolrQueryTemplate(String query, Set<String> params) {
+        this.query = query;
+        this.params = Collections.unmodifiableSet(params);
+    }
+
+    String getQuery() {
+        return query;
+    }
+
+    Set<String> getParams() {
+        return params;
+    }
+
+    SolrQuery bind(Map<String, ? extends Object> values) {
+        SolrQuery solrQuery = new SolrQuery(query);
+        for (String param : params) {
+            Object value = values.get(param);
+            if (value != null) {
+                solrQuery.set(PARAM_PREFIX + param, ClientUtils.escapeQueryChars(value.toString()));
+            }
+        }
+        return solrQuery;
+    }
+
+    static SolrQueryTemplate of(String query) {
+        return TEMPLATES.computeIfAbsent(query, SolrQueryTemplate::parse);
+    }
+
+    private static SolrQueryTemplate parse(String query) {
+        StringBuilder text = new StringBuilder(query.length());
+        Set<String> params = new LinkedHashSet<>();
+        int index = 0;
+        while (index < query.length()) {
+            char character = query.charAt(index);
+            int end = index + 1;
+            while (end < query.length() && isParamPart(query.charAt(end))) {
+                end++;
+            }
+            if (character == '@' && end > index + 1) {
+                String param = query.substring(index + 1, end);
+                params.add(param);
+                text.append("${").append(PARAM_PREFIX).append(param).append(":@").append(param).append('}');
+                index = end;
+            } else {
+                text.append(character);
+                index++;
+            }
+        }
+        return new SolrQueryTemplate(text.toString(), params);
+    }
+
+    private static boolean isParamPart(char character) {
+        return Character.isLetterOrDigit(character) || character == '_';
+    }
+}
@@ -32,6 +32,8 @@ final class SolrUtils {
 
     static final String ENTITY = "_entity";
 
+    static final String ID = "id";
+
     private SolrUtils() {
     }
 
@@ -33,6 +33,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -40,11 +42,13 @@ import java.util.stream.StreamSupport;
 import static jakarta.nosql.document.DocumentDeleteQuery.delete;
 import static jakarta.nosql.document.DocumentQuery.select;
 import static java.util.Arrays.asList;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -81,6 +85,83 @@ public class DefaultSolrDocumentCollectionManagerTest {
         assertEquals(newField, updated.find("newField").get());
     }
 
+    @Test
+    public void shouldUpdateInBatch() {
+        List<DocumentEntity> entities = asList(getEntity(), getEntity());
+        entityManager.insert(entities);
+        Document newField = Documents.of("newField", "10");
+        entities.forEach(e -> e.add(newField));
+        entityManager.update(entities);
+        entityManager.commit();
+
+        for (DocumentEntity entity : entities) {
+            Document id = entity.find(ID).get();
+            DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+            List<DocumentEntity> found = entityManager.select(query).collect(Collectors.toList());
+            assertEquals(1, found.size());
+            assertTrue(found.get(0).find(newField.getName()).isPresent());
+        }
+    }
+
+    @Test
+    public void shouldCommitManually() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        configuration.setCommitStrategy(SolrCommitStrategy.MANUAL);
+        SolrDocumentCollectionManager manager = configuration.get().get("database");
+        DocumentEntity entity = getEntity();
+        entity.remove(ID);
+        entity.add(Document.of(ID, UUID.randomUUID().toString()));
+        manager.insert(entity);
+
+        Document id = entity.find(ID).get();
+        DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+        assertEquals(0, manager.select(query).count());
+        manager.commit();
+        assertEquals(1, manager.select(query).count());
+    }
+
+    @Test
+    public void shouldCommitWithin() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        configuration.setCommitStrategy(SolrCommitStrategy.WITHIN);
+        configuration.setCommitWithin(Duration.ofMillis(500));
+        SolrDocumentCollectionManager manager = configuration.get().get("database");
+        DocumentEntity entity = getEntity();
+        entity.remove(ID);
+        entity.add(Document.of(ID, UUID.randomUUID().toString()));
+        manager.insert(entity);
+
+        Document id = entity.find(ID).get();
+        DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+        await().atMost(10, TimeUnit.SECONDS).until(() -> manager.select(query).count() == 1);
+    }
+
+    @Test
+    public void shouldInsertWithIngestionClient() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        configuration.setIngestion(10, 2);
+        SolrDocumentCollectionManager manager = configuration.get().get("database");
+        List<DocumentEntity> entities = asList(getEntity(), getEntity(), getEntity());
+        manager.insert(entities);
+        manager.commit();
+        manager.close();
+
+        for (DocumentEntity entity : entities) {
+            Document id = entity.find(ID).get();
+            DocumentQuery query = select().from(COLLECTION_NAME).where(id.getName()).eq(id.get()).build();
+            assertEquals(1, entityManager.select(query).count());
+        }
+    }
+
+    @Test
+    public void shouldThrowIngestionErrorWhenClose() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        configuration.setIngestion(10, 1);
+        SolrDocumentCollectionManager manager = configuration.get().get("unknown_database");
+        manager.insert(getEntity());
+        assertThrows(SolrException.class, manager::close);
+    }
+
     @Test
     public void shouldRemoveEntity() {
         DocumentEntity documentEntity = entityManager.insert(getEntity());
@@ -241,6 +322,21 @@ public class DefaultSolrDocumentCollectionManagerTest {
         assertEquals(2, entitiesFound.size());
     }
 
+    @Test
+    public void shouldFindDocumentLikeInsideOr() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("name").like("Lu*")
+                .or("name").eq("Otavio")
+                .build();
+
+        List<DocumentEntity> entitiesFound = entityManager.select(query).collect(Collectors.toList());
+        assertEquals(3, entitiesFound.size());
+    }
+
     @Test
     public void shouldFindDocumentIn() {
         DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
@@ -346,6 +442,80 @@ public class DefaultSolrDocumentCollectionManagerTest {
 
     }
 
+    @Test
+    public void shouldPaginateWithCursorMark() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .orderBy("age").asc()
+                .build();
+
+        List<Integer> ages = entityManager.paginate(query, 1)
+                .map(e -> e.find("age").get().get(Integer.class))
+                .collect(Collectors.toList());
+        assertThat(ages, contains(22, 23, 25));
+
+        query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .orderBy("age").asc()
+                .skip(1L)
+                .limit(1L)
+                .build();
+
+        ages = entityManager.paginate(query, 2)
+                .map(e -> e.find("age").get().get(Integer.class))
+                .collect(Collectors.toList());
+        assertThat(ages, contains(23));
+        assertThrows(IllegalArgumentException.class, () -> entityManager.paginate(select()
+                .from(COLLECTION_NAME).build(), 0));
+        entityManager.delete(deleteQuery);
+    }
+
+    @Test
+    public void shouldFindDocumentFields() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        DocumentQuery query = select("name").from(COLLECTION_NAME)
+                .where("age").gt(22)
+                .and("type").eq("V")
+                .build();
+
+        List<DocumentEntity> entitiesFound = entityManager.select(query).collect(Collectors.toList());
+        assertEquals(3, entitiesFound.size());
+        entitiesFound.forEach(e -> {
+            assertTrue(e.find("name").isPresent());
+            assertFalse(e.find("age").isPresent());
+        });
+        entityManager.delete(deleteQuery);
+    }
+
+    @Test
+    public void shouldFacetAndStats() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        DocumentQuery query = select().from(COLLECTION_NAME)
+                .where("type").eq("V")
+                .build();
+
+        Map<String, Map<String, Long>> facets = entityManager.facet(query, "location");
+        assertEquals(Long.valueOf(2L), facets.get("location").get("BR"));
+        assertEquals(Long.valueOf(1L), facets.get("location").get("US"));
+
+        SolrFieldStats stats = entityManager.stats(query, "age").get("age");
+        assertEquals(3L, stats.getCount());
+        assertEquals(22, ((Number) stats.getMin()).intValue());
+        assertEquals(25, ((Number) stats.getMax()).intValue());
+        assertThrows(IllegalArgumentException.class, () -> entityManager.facet(query));
+        entityManager.delete(deleteQuery);
+    }
+
     @Test
     public void shouldExecuteNativeQuery() {
         DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
@@ -388,6 +558,23 @@ public class DefaultSolrDocumentCollectionManagerTest {
     }
 
 
+    @Test
+    public void shouldEscapeNativeQueryParams() {
+        DocumentDeleteQuery deleteQuery = delete().from(COLLECTION_NAME).build();
+        entityManager.delete(deleteQuery);
+        entityManager.insert(getEntitiesWithValues());
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("type", "X OR type:V");
+
+        List<DocumentEntity> entitiesFound = entityManager.solr("type:@type AND _entity:person", params);
+        assertTrue(entitiesFound.isEmpty());
+
+        SolrQueryTemplate template = SolrQueryTemplate.of("type:@type AND _entity:person");
+        assertSame(template, SolrQueryTemplate.of("type:@type AND _entity:person"));
+        assertEquals("type:${param.type:@type} AND _entity:person", template.getQuery());
+    }
+
     @Test
     public void shouldFindAll() {
         entityManager.insert(getEntity());
@@ -15,11 +15,14 @@
 
 package org.eclipse.jnosql.diana.solr.document;
 
+import jakarta.nosql.Settings;
 import jakarta.nosql.document.DocumentCollectionManagerFactory;
 import jakarta.nosql.document.DocumentConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -39,6 +42,23 @@ public class SolrDocumentConfigurationTest {
     }
 
 
+    @Test
+    public void shouldReturnErrorWhenCommitWithinIsNotPositive() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.setCommitWithin(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> configuration.setCommitStrategy(null));
+        Settings settings = Settings.builder().put(SolrDocumentConfigurations.COMMIT_WITHIN.get(), "0").build();
+        assertThrows(IllegalArgumentException.class, () -> configuration.get(settings));
+    }
+
+
+    @Test
+    public void shouldReturnErrorWhenIngestionIsNotPositive() {
+        SolrDocumentConfiguration configuration = new SolrDocumentConfiguration();
+        assertThrows(IllegalArgumentException.class, () -> configuration.setIngestion(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> configuration.setIngestion(10, 0));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         DocumentConfiguration configuration = DocumentConfiguration.getConfiguration();